@@ -0,0 +1,85 @@
+-- ==========================================================================
+-- 장소 반경조회 쿼리 비교 (MySQL 8.0.18+, EXPLAIN ANALYZE)
+--   1) 기존 쿼리 : 전체 행에 대해 Haversine 계산
+--   2) 사각형 선필터 쿼리 : idx_place_status_lat_lng 범위 스캔 후 Haversine 계산
+-- 운영 테이블이 아닌 PlaceBench 테이블에 50만 건을 생성해서 비교한다.
+-- db/migration/001_place_location_index.sql 적용 후 실행 (CREATE TABLE ... LIKE 로 인덱스가 복사됨)
+-- ==========================================================================
+
+DROP TABLE IF EXISTS PlaceBench;
+CREATE TABLE PlaceBench LIKE Place;
+
+SET SESSION cte_max_recursion_depth = 500000;
+
+-- 국내 좌표 범위 (위도 33~38.5, 경도 125~130) 에 균등 분포, 5%는 삭제 상태
+INSERT INTO PlaceBench (name, address, latitude, longitude, status)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 500000
+)
+SELECT CONCAT('bench-place-', n),
+       CONCAT('bench-address-', n),
+       33.0 + RAND(n) * 5.5,
+       125.0 + RAND(n * 7) * 5.0,
+       IF(n % 20 = 0, 'DELETED', 'USED')
+FROM seq;
+
+ANALYZE TABLE PlaceBench;
+
+-- 서울시청 기준 반경 5km
+SET @lat = 37.5666;
+SET @lng = 126.9782;
+SET @radius = 5;
+
+-- --------------------------------------------------------------------------
+-- 1) 기존 쿼리 (인덱스 미사용)
+-- --------------------------------------------------------------------------
+EXPLAIN ANALYZE
+SELECT id,
+       ROUND(ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+           + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371, 3) AS distance,
+       latitude,
+       longitude
+FROM PlaceBench IGNORE INDEX (idx_place_status_lat_lng)
+WHERE status = 'USED'
+  AND ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+      + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371 <= @radius
+ORDER BY distance;
+
+-- --------------------------------------------------------------------------
+-- 2) 사각형 선필터 쿼리 (BoundingBox.of 와 동일한 계산)
+-- --------------------------------------------------------------------------
+SET @lat_delta = @radius / (PI() * 6371 / 180);
+SET @lng_delta = @lat_delta / COS(RADIANS(ABS(@lat) + @lat_delta));
+
+EXPLAIN ANALYZE
+SELECT id,
+       ROUND(ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+           + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371, 3) AS distance,
+       latitude,
+       longitude
+FROM PlaceBench
+WHERE status = 'USED'
+  AND latitude BETWEEN @lat - @lat_delta AND @lat + @lat_delta
+  AND longitude BETWEEN @lng - @lng_delta AND @lng + @lng_delta
+  AND ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+      + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371 <= @radius
+ORDER BY distance;
+
+-- 두 쿼리의 결과 건수가 같은지 확인
+SELECT COUNT(*) AS legacy_count
+FROM PlaceBench IGNORE INDEX (idx_place_status_lat_lng)
+WHERE status = 'USED'
+  AND ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+      + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371 <= @radius;
+
+SELECT COUNT(*) AS bbox_count
+FROM PlaceBench
+WHERE status = 'USED'
+  AND latitude BETWEEN @lat - @lat_delta AND @lat + @lat_delta
+  AND longitude BETWEEN @lng - @lng_delta AND @lng + @lng_delta
+  AND ACOS(COS(RADIANS(longitude) - RADIANS(@lng)) * COS(RADIANS(@lat)) * COS(RADIANS(latitude))
+      + SIN(RADIANS(@lat)) * SIN(RADIANS(latitude))) * 6371 <= @radius;
+
+DROP TABLE PlaceBench;
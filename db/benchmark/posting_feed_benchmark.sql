@@ -0,0 +1,105 @@
+-- ==========================================================================
+-- 게시글 목록 페이징 비교 (MySQL 8.0.18+, EXPLAIN ANALYZE)
+--   1) JPA Page     (/posts/page)     : OFFSET 조회 + count 쿼리
+--   2) JPA Slice    (/posts/slice)    : OFFSET 조회 (limit + 1)
+--   3) QueryDSL     (/posts/querydsl) : OFFSET 조회 + fetchCount
+--   4) 커서 페이징  (/posts/feed)     : (created_at, id) seek 조건
+-- 운영 테이블이 아닌 PostingBench 테이블에 50만 건을 생성하고, 1페이지와 1000페이지(10건 단위)를 비교한다.
+-- db/migration/002_posting_feed_index.sql 적용 후 실행 (CREATE TABLE ... LIKE 로 인덱스가 복사됨)
+-- ==========================================================================
+
+DROP TABLE IF EXISTS PostingBench;
+CREATE TABLE PostingBench LIKE Posting;
+
+SET SESSION cte_max_recursion_depth = 500000;
+
+-- 1분 간격으로 분포 (2건씩 같은 created_at 이라 id 로 순서가 갈림), 5%는 삭제 상태
+INSERT INTO PostingBench (member_id, title, content, status, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 1
+    UNION ALL
+    SELECT n + 1 FROM seq WHERE n < 500000
+)
+SELECT 1 + n % 1000,
+       CONCAT('bench-title-', n),
+       CONCAT('bench-content-', n),
+       IF(n % 20 = 0, 'DELETED', 'USED'),
+       NOW() - INTERVAL FLOOR(n / 2) * 60 SECOND,
+       NOW() - INTERVAL FLOOR(n / 2) * 60 SECOND
+FROM seq;
+
+ANALYZE TABLE PostingBench;
+
+-- --------------------------------------------------------------------------
+-- 1페이지
+-- --------------------------------------------------------------------------
+EXPLAIN ANALYZE
+SELECT * FROM PostingBench
+WHERE status = 'USED'
+ORDER BY created_at DESC
+LIMIT 10 OFFSET 0;
+
+EXPLAIN ANALYZE
+SELECT * FROM PostingBench
+WHERE status = 'USED'
+ORDER BY created_at DESC, id DESC
+LIMIT 11;
+
+-- --------------------------------------------------------------------------
+-- 1000페이지 (OFFSET 9990)
+-- --------------------------------------------------------------------------
+
+-- 1) JPA Page : 본 쿼리 + count 쿼리
+EXPLAIN ANALYZE
+SELECT * FROM PostingBench
+WHERE status = 'USED'
+ORDER BY created_at DESC
+LIMIT 10 OFFSET 9990;
+
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM PostingBench
+WHERE status = 'USED';
+
+-- 2) JPA Slice : 다음 페이지 확인용으로 1건 더 조회
+EXPLAIN ANALYZE
+SELECT * FROM PostingBench
+WHERE status = 'USED'
+ORDER BY created_at DESC
+LIMIT 11 OFFSET 9990;
+
+-- 3) QueryDSL : 본 쿼리는 1) 과 동일, fetchCount 는 count(id)
+EXPLAIN ANALYZE
+SELECT COUNT(id) FROM PostingBench
+WHERE status = 'USED';
+
+-- 4) 커서 페이징 : 999페이지 마지막 글을 커서로 사용
+SELECT created_at, id INTO @cursor_created_at, @cursor_id
+FROM PostingBench
+WHERE status = 'USED'
+ORDER BY created_at DESC, id DESC
+LIMIT 1 OFFSET 9989;
+
+EXPLAIN ANALYZE
+SELECT * FROM PostingBench
+WHERE status = 'USED'
+  AND (created_at < @cursor_created_at
+    OR (created_at = @cursor_created_at AND id < @cursor_id))
+ORDER BY created_at DESC, id DESC
+LIMIT 11;
+
+-- OFFSET 결과와 커서 결과의 ID 가 같은지 확인
+SELECT GROUP_CONCAT(id ORDER BY created_at DESC, id DESC) AS offset_ids
+FROM (SELECT id, created_at FROM PostingBench
+      WHERE status = 'USED'
+      ORDER BY created_at DESC, id DESC
+      LIMIT 10 OFFSET 9990) page;
+
+SELECT GROUP_CONCAT(id ORDER BY created_at DESC, id DESC) AS cursor_ids
+FROM (SELECT id, created_at FROM PostingBench
+      WHERE status = 'USED'
+        AND (created_at < @cursor_created_at
+          OR (created_at = @cursor_created_at AND id < @cursor_id))
+      ORDER BY created_at DESC, id DESC
+      LIMIT 10) page;
+
+DROP TABLE PostingBench;
@@ -0,0 +1,7 @@
+-- 장소 반경조회 (PlaceRepositoryCustomImpl.findPlaceNearbyPoint) 용 인덱스
+-- status 동등 조건 + latitude 범위 스캔, longitude 는 인덱스 안에서 필터링된다.
+ALTER TABLE Place
+    ADD INDEX idx_place_status_lat_lng (status, latitude, longitude);
+
+-- rollback
+-- ALTER TABLE Place DROP INDEX idx_place_status_lat_lng;
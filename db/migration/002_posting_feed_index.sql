@@ -0,0 +1,7 @@
+-- 게시글 피드 커서 페이징 (PostingRepositoryCustomImpl.findFeedAfter) 용 인덱스
+-- status 동등 조건 + (created_at, id) 역순 정렬을 인덱스 순서 그대로 읽어 filesort 없이 limit 건에서 멈춘다.
+ALTER TABLE Posting
+    ADD INDEX idx_posting_status_created_at_id (status, created_at, id);
+
+-- rollback
+-- ALTER TABLE Posting DROP INDEX idx_posting_status_created_at_id;
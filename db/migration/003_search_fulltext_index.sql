@@ -0,0 +1,12 @@
+-- 검색 (SearchServiceFulltextImpl, search.engine=fulltext) 용 FULLTEXT 인덱스
+-- 한국어는 공백 단위 토큰화가 맞지 않아 ngram 파서를 사용한다. (ngram_token_size 기본값 2)
+-- 대용량 테이블은 인덱스 생성 중 쓰기가 막히므로 트래픽이 적은 시간에 적용한다.
+ALTER TABLE Place
+    ADD FULLTEXT INDEX ftx_place_name_address (name, address) WITH PARSER ngram;
+
+ALTER TABLE Posting
+    ADD FULLTEXT INDEX ftx_posting_title_content (title, content) WITH PARSER ngram;
+
+-- rollback
+-- ALTER TABLE Place DROP INDEX ftx_place_name_address;
+-- ALTER TABLE Posting DROP INDEX ftx_posting_title_content;
@@ -0,0 +1,11 @@
+-- 검색 인덱스 증분 동기화 (SearchSyncJobConfiguration) 용 인덱스
+-- (updated_at, id) > mark 조건을 인덱스 범위로 읽고, 정렬도 인덱스 순서를 그대로 사용한다.
+ALTER TABLE Place
+    ADD INDEX idx_place_updated_at_id (updated_at, id);
+
+ALTER TABLE Posting
+    ADD INDEX idx_posting_updated_at_id (updated_at, id);
+
+-- rollback
+-- ALTER TABLE Place DROP INDEX idx_place_updated_at_id;
+-- ALTER TABLE Posting DROP INDEX idx_posting_updated_at_id;
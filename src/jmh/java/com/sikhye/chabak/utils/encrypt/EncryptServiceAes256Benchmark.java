@@ -0,0 +1,77 @@
+package com.sikhye.chabak.utils.encrypt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sikhye.chabak.global.config.ConfigProperties;
+
+/**
+ * 암복호화 처리량 (./gradlew jmh)
+ * 스레드 수별(1, 4, 코어 수) 결과를 비교해 코어 수에 따라 처리량이 늘어나는지 확인한다.
+ * (동시성 정합성은 EncryptServiceAes256Test 에서 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptServiceAes256Benchmark {
+
+	private EncryptServiceAes256 encryptService;
+	private String encrypted;
+
+	@Setup
+	public void setUp() throws Exception {
+		encryptService = new EncryptServiceAes256(
+			new ConfigProperties("jwt-secret", "0123456789abcdef0123456789abcdef"));
+		encrypted = encryptService.encrypt("chabak-password!@#");
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String encrypt1Thread() throws Exception {
+		return encryptService.encrypt("chabak-password!@#");
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String encrypt4Threads() throws Exception {
+		return encryptService.encrypt("chabak-password!@#");
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String encryptMaxThreads() throws Exception {
+		return encryptService.encrypt("chabak-password!@#");
+	}
+
+	@Benchmark
+	@Threads(1)
+	public String decrypt1Thread() throws Exception {
+		return encryptService.decrypt(encrypted);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String decrypt4Threads() throws Exception {
+		return encryptService.decrypt(encrypted);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String decryptMaxThreads() throws Exception {
+		return encryptService.decrypt(encrypted);
+	}
+}
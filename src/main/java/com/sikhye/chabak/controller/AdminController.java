@@ -0,0 +1,37 @@
+package com.sikhye.chabak.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sikhye.chabak.global.response.BaseResponse;
+import com.sikhye.chabak.service.member.MemberService;
+import com.sikhye.chabak.service.sms.dto.VerificationCodeStatsRes;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 관리자 (JwtAdminInterceptor)
+@Slf4j
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+	private final MemberService memberService;
+
+	public AdminController(MemberService memberService) {
+		this.memberService = memberService;
+	}
+
+	// 회원 중복 확인 필터(이메일/닉네임/휴대폰번호) 재구성, 적재한 회원 수 반환
+	@PostMapping("/members/unique-filter/rebuild")
+	public BaseResponse<Long> rebuildMemberUniqueFilter() {
+		return new BaseResponse<>(memberService.rebuildUniqueFilter());
+	}
+
+	// 휴대폰 인증 코드 / 실패 횟수 키 수와 메모리 사용량
+	@GetMapping("/sms/verification-codes/stats")
+	public BaseResponse<VerificationCodeStatsRes> findVerificationCodeStats() {
+		return new BaseResponse<>(memberService.findVerificationCodeStats());
+	}
+}
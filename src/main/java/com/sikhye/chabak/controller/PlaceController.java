@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.sikhye.chabak.global.response.BaseResponse;
 import com.sikhye.chabak.service.place.PlaceService;
+import com.sikhye.chabak.service.place.constant.RankWindow;
 import com.sikhye.chabak.service.place.constant.SortType;
 import com.sikhye.chabak.service.place.dto.PlaceAroundRes;
 import com.sikhye.chabak.service.place.dto.PlaceCommentReq;
@@ -133,8 +134,10 @@ public class PlaceController {
 		return new BaseResponse<>(placeService.searchPlacesRegion(query, latitude, longitude));
 	}
 
+	// window : 1h, 24h, 7d (없으면 전체 기간)
 	@GetMapping("/rank")
-	public BaseResponse<List<PlaceRankRes>> placeRank() {
-		return new BaseResponse<>(placeService.getTop5PlaceRanks());
+	public BaseResponse<List<PlaceRankRes>> placeRank(
+		@RequestParam(value = "window", required = false) RankWindow window) {
+		return new BaseResponse<>(placeService.getTop5PlaceRanks(window));
 	}
 }
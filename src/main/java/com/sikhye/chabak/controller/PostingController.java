@@ -7,6 +7,9 @@ import javax.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sikhye.chabak.global.response.BaseResponse;
 import com.sikhye.chabak.service.post.PostingService;
@@ -25,6 +29,7 @@ import com.sikhye.chabak.service.post.dto.PostingCommentReq;
 import com.sikhye.chabak.service.post.dto.PostingCommentRes;
 import com.sikhye.chabak.service.post.dto.PostingDetailRes;
 import com.sikhye.chabak.service.post.dto.PostingEditReq;
+import com.sikhye.chabak.service.post.dto.PostingFeedRes;
 import com.sikhye.chabak.service.post.dto.PostingRecentRes;
 import com.sikhye.chabak.service.post.dto.PostingReq;
 import com.sikhye.chabak.service.post.dto.PostingRes;
@@ -69,6 +74,30 @@ public class PostingController {
 		return new BaseResponse<>(postingService.findPostsWithQuerydslPaging(pageable));
 	}
 
+	// http://localhost:9000/posts/feed?limit=10&after={nextCursor}
+	@GetMapping("/feed")
+	public BaseResponse<PostingFeedRes> findFeedPosts(
+		@RequestParam(required = false) String after,
+		@RequestParam(defaultValue = "10") Integer limit) {
+		return new BaseResponse<>(postingService.findPostFeed(after, limit));
+	}
+
+	// 전체 게시글을 한 줄에 하나씩 (application/x-ndjson) 스트리밍
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAllPosts() {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(postingService.streamPosts());
+	}
+
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportPosts() {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"postings.ndjson\"")
+			.body(postingService.exportPosts());
+	}
+
 	@GetMapping("/me")
 	public BaseResponse<List<PostingRes>> findMyPosts() {
 		return new BaseResponse<>(postingService.findMemberPosts());
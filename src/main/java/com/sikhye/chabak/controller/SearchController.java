@@ -1,13 +1,28 @@
 package com.sikhye.chabak.controller;
 
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sikhye.chabak.global.exception.BaseException;
 import com.sikhye.chabak.global.response.BaseResponse;
 import com.sikhye.chabak.service.search.SearchService;
+import com.sikhye.chabak.service.search.constant.TagMatchType;
 import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.dto.SuggestRes;
+import com.sikhye.chabak.service.search.dto.TagFacetRes;
+import com.sikhye.chabak.service.search.suggest.SuggestService;
+import com.sikhye.chabak.service.search.tag.TagQuery;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,23 +31,75 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/search")
 public class SearchController {
 
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int MAX_FACET_LIMIT = 100;
+
 	private final SearchService searchService;
+	private final SuggestService suggestService;
 
-	public SearchController(SearchService searchService) {
+	public SearchController(SearchService searchService, SuggestService suggestService) {
 		this.searchService = searchService;
+		this.suggestService = suggestService;
 	}
 
+	// 태그 검색 : q=#캠핑 #바다 (match=any 하나라도 포함, match=all 모두 포함, exclude 태그는 제외)
 	@GetMapping
-	public BaseResponse<SearchDto> search(@RequestParam String q) {
+	public BaseResponse<SearchDto> search(@RequestParam String q,
+		@RequestParam(defaultValue = "0") Integer page,
+		@RequestParam(defaultValue = "20") Integer size,
+		@RequestParam(defaultValue = "any") TagMatchType match,
+		@RequestParam(required = false) List<String> exclude) {
+
+		if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+			throw new BaseException(INVALID_PAGE);
+		}
 
 		SearchDto searchDto;
 		if (q.charAt(0) == '#') {
-			searchDto = searchService.searchByTag(q.substring(1));
+			searchDto = searchService.searchByTags(new TagQuery(parseTags(q), match, exclude), page, size);
 		} else {
-			searchDto = searchService.searchBy(q);
+			searchDto = searchService.searchBy(q, page, size);
 		}
 
 		return new BaseResponse<>(searchDto);
 	}
 
+	// 태그 조건에 맞는 장소/게시글 수와 태그별 건수 (tags 가 없으면 전체 기준)
+	@GetMapping("/tags/facets")
+	public BaseResponse<TagFacetRes> tagFacets(@RequestParam(required = false) List<String> tags,
+		@RequestParam(defaultValue = "any") TagMatchType match,
+		@RequestParam(required = false) List<String> exclude,
+		@RequestParam(defaultValue = "20") Integer limit) {
+
+		if (limit < 1 || limit > MAX_FACET_LIMIT) {
+			throw new BaseException(INVALID_LIMIT);
+		}
+
+		return new BaseResponse<>(searchService.findTagFacets(new TagQuery(tags, match, exclude), limit));
+	}
+
+	// 검색어 자동완성 : 장소명 / 지역명 / 태그명 접두어 (자모, 초성 입력 포함)
+	@GetMapping("/suggest")
+	public BaseResponse<SuggestRes> suggest(@RequestParam String q,
+		@RequestParam(defaultValue = "5") Integer limit) {
+
+		return new BaseResponse<>(suggestService.suggest(q, limit));
+	}
+
+	// 관리자 (JwtAdminInterceptor)
+	@PostMapping("/index/rebuild")
+	public BaseResponse<Long> rebuildIndex() {
+		return new BaseResponse<>(searchService.rebuildIndex());
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private static Set<String> parseTags(String q) {
+		return Arrays.stream(q.split("[#\\s]+"))
+			.filter(tag -> !tag.isEmpty())
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
 }
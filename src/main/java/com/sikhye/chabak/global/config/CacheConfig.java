@@ -12,9 +12,13 @@ import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sikhye.chabak.service.place.cache.CachedPlaceDetail;
+import com.sikhye.chabak.service.place.cache.PlaceDetailCache;
 import com.sikhye.chabak.service.sms.entity.SmsCacheKey;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CacheConfig {
 
 	private final RedisConnectionFactory redisConnectionFactory;
+	private final ObjectMapper objectMapper;
 
 	@Bean
 	public CacheManager cacheManager() {
@@ -45,18 +50,22 @@ public class CacheConfig {
 
 		Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
-		cacheConfigurations.put(SmsCacheKey.SMS,
+		// 장소 상세 (L2, JSON 직렬화)
+		Jackson2JsonRedisSerializer<CachedPlaceDetail> placeDetailSerializer =
+			new Jackson2JsonRedisSerializer<>(CachedPlaceDetail.class);
+		placeDetailSerializer.setObjectMapper(objectMapper);
+
+		cacheConfigurations.put(PlaceDetailCache.PLACE_DETAIL,
 			RedisCacheConfiguration.defaultCacheConfig()
-				.disableKeyPrefix()
 				.disableCachingNullValues()
-				.entryTtl(Duration.ofSeconds(SmsCacheKey.SMS_EXPIRE_SEC))
+				.entryTtl(Duration.ofSeconds(PlaceDetailCache.PLACE_DETAIL_EXPIRE_SEC))
 				.computePrefixWith(CacheKeyPrefix.simple())
 				.serializeKeysWith(RedisSerializationContext
 					.SerializationPair
 					.fromSerializer(new StringRedisSerializer()))
 				.serializeValuesWith(RedisSerializationContext
 					.SerializationPair
-					.fromSerializer(new StringRedisSerializer())));
+					.fromSerializer(placeDetailSerializer)));
 
 		return RedisCacheManager.RedisCacheManagerBuilder
 			.fromConnectionFactory(redisConnectionFactory)
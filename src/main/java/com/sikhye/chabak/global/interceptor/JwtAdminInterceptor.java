@@ -19,6 +19,8 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtAdminInterceptor implements HandlerInterceptor {
 
+	private static final String ADMIN_PATH = "/admin";
+
 	private final JwtTokenService jwtTokenService;
 
 	public JwtAdminInterceptor(JwtTokenService jwtTokenService) {
@@ -31,7 +33,8 @@ public class JwtAdminInterceptor implements HandlerInterceptor {
 
 		String requestURI = request.getRequestURI();
 
-		if (request.getMethod().equals("GET")) {
+		// 조회(GET)는 회원 누구나 가능, 단 /admin/** 은 조회도 관리자만
+		if (request.getMethod().equals("GET") && !isAdminPath(request)) {
 			return true;
 		}
 
@@ -47,4 +50,9 @@ public class JwtAdminInterceptor implements HandlerInterceptor {
 		return true;
 
 	}
+
+	private static boolean isAdminPath(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return path.equals(ADMIN_PATH) || path.startsWith(ADMIN_PATH + "/");
+	}
 }
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.jwt.JwtPrincipal;
 import com.sikhye.chabak.service.jwt.JwtTokenService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -38,11 +39,17 @@ public class JwtMemberInterceptor implements HandlerInterceptor {
 			throw new BaseException(EMPTY_JWT);
 		}
 
-		if (!jwtTokenService.validateToken(accessToken)) {
+		JwtPrincipal principal;
+		try {
+			principal = jwtTokenService.resolvePrincipal(accessToken);
+		} catch (BaseException e) {
 			log.info("JWT 토큰 유효기간 만료");
 			throw new BaseException(INVALID_JWT);
 		}
 
+		// 이후 관리자 인터셉터와 서비스의 getMemberId() 는 다시 파싱하지 않고 이 값을 쓴다.
+		request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
+
 		return true;
 	}
 
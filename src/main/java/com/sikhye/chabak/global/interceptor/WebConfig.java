@@ -27,7 +27,7 @@ public class WebConfig implements WebMvcConfigurer {
 
 		registry.addInterceptor(jwtAdminInterceptor)
 			.order(2)
-			.addPathPatterns("/places/**")
+			.addPathPatterns("/places/**", "/search/index/**", "/admin/**")
 			.excludePathPatterns("/places/*/comments/**", "/error", "/members/**", "/auth/**", "/**.ico");
 	}
 
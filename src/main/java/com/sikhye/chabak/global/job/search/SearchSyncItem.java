@@ -0,0 +1,22 @@
+package com.sikhye.chabak.global.job.search;
+
+import com.sikhye.chabak.global.constant.BaseStatus;
+
+import lombok.Getter;
+
+/**
+ * 동기화 대상 행 (장소 또는 게시글)
+ */
+@Getter
+public class SearchSyncItem {
+
+	private final Long id;
+	private final BaseStatus status;
+	private final long updatedAt;
+
+	public SearchSyncItem(Long id, BaseStatus status, long updatedAt) {
+		this.id = id;
+		this.status = status;
+		this.updatedAt = updatedAt;
+	}
+}
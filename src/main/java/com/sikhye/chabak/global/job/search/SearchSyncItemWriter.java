@@ -0,0 +1,66 @@
+package com.sikhye.chabak.global.job.search;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+
+import com.sikhye.chabak.service.search.SearchService;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+/**
+ * 청크 단위로 검색 인덱스에 반영하고, 반영한 마지막 행을 high-water mark 로 남긴다.
+ * update() 는 청크 트랜잭션 안에서 호출되므로 mark 는 커밋된 청크까지만 전진한다.
+ */
+public class SearchSyncItemWriter implements ItemWriter<SearchSyncItem>, ItemStream {
+
+	public static final String MARK_KEY = "searchSync.mark";
+
+	private final SearchService searchService;
+	private final SearchDocumentType type;
+
+	private SearchSyncMark mark;
+
+	public SearchSyncItemWriter(SearchService searchService, SearchDocumentType type) {
+		this.searchService = searchService;
+		this.type = type;
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		mark = SearchSyncMark.decode(executionContext.getString(MARK_KEY, null));
+	}
+
+	@Override
+	public void write(List<? extends SearchSyncItem> items) {
+		List<Long> usedIds = new ArrayList<>();
+		List<Long> deletedIds = new ArrayList<>();
+
+		for (SearchSyncItem item : items) {
+			if (item.getStatus() == USED) {
+				usedIds.add(item.getId());
+			} else {
+				deletedIds.add(item.getId());
+			}
+		}
+
+		searchService.syncDocuments(type, usedIds, deletedIds);
+
+		// reader 가 (updated_at, id) 순으로 읽으므로 마지막 행이 가장 큰 mark
+		SearchSyncItem last = items.get(items.size() - 1);
+		mark = new SearchSyncMark(last.getUpdatedAt(), last.getId());
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		executionContext.putString(MARK_KEY, mark.encode());
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,139 @@
+package com.sikhye.chabak.global.job.search;
+
+import static com.sikhye.chabak.service.search.event.SearchDocumentType.*;
+
+import java.sql.Timestamp;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sikhye.chabak.global.constant.BaseStatus;
+import com.sikhye.chabak.service.search.SearchService;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 인덱스 증분 동기화 배치
+ * 장소/게시글을 (updated_at, id) 순으로 mark 이후 행만 읽어 청크 단위로 검색 구현체에 반영한다.
+ * (status = DELETED 인 행은 인덱스에서 삭제)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "search.sync.enabled", havingValue = "true")
+public class SearchSyncJobConfiguration {
+
+	public static final String JOB_NAME = "searchSyncJob";
+
+	private static final int CHUNK_SIZE = 500;
+
+	// 커밋이 늦은 트랜잭션의 updated_at 이 mark 보다 앞서 누락되지 않도록 최근 구간은 다음 실행에서 읽는다.
+	private static final String SYNC_QUERY = "SELECT id, status, updated_at FROM %s"
+		+ " WHERE updated_at <= ? AND (updated_at > ? OR (updated_at = ? AND id > ?))"
+		+ " ORDER BY updated_at, id";
+
+	private final JobBuilderFactory jobBuilderFactory;
+	private final StepBuilderFactory stepBuilderFactory;
+	private final JobExplorer jobExplorer;
+	private final DataSource dataSource;
+	private final SearchService searchService;
+	private final long lagMs;
+
+	public SearchSyncJobConfiguration(
+		JobBuilderFactory jobBuilderFactory,
+		StepBuilderFactory stepBuilderFactory, JobExplorer jobExplorer, DataSource dataSource,
+		SearchService searchService, @Value("${search.sync.lag-ms:5000}") long lagMs) {
+		this.jobBuilderFactory = jobBuilderFactory;
+		this.stepBuilderFactory = stepBuilderFactory;
+		this.jobExplorer = jobExplorer;
+		this.dataSource = dataSource;
+		this.searchService = searchService;
+		this.lagMs = lagMs;
+	}
+
+	@Bean
+	public Job searchSyncJob() {
+		return jobBuilderFactory.get(JOB_NAME)
+			.incrementer(new RunIdIncrementer())
+			.start(placeSyncStep())
+			.next(postingSyncStep())
+			.build();
+	}
+
+	@Bean
+	public Step placeSyncStep() {
+		return syncStep("placeSyncStep", placeSyncReader(null, null), PLACE);
+	}
+
+	@Bean
+	public Step postingSyncStep() {
+		return syncStep("postingSyncStep", postingSyncReader(null, null), POST);
+	}
+
+	@Bean
+	@StepScope
+	public JdbcCursorItemReader<SearchSyncItem> placeSyncReader(
+		@Value("#{stepExecutionContext['" + SearchSyncItemWriter.MARK_KEY + "']}") String mark,
+		@Value("#{jobParameters['time']}") Long time) {
+		return syncReader("placeSyncReader", "Place", SearchSyncMark.decode(mark), time);
+	}
+
+	@Bean
+	@StepScope
+	public JdbcCursorItemReader<SearchSyncItem> postingSyncReader(
+		@Value("#{stepExecutionContext['" + SearchSyncItemWriter.MARK_KEY + "']}") String mark,
+		@Value("#{jobParameters['time']}") Long time) {
+		return syncReader("postingSyncReader", "Posting", SearchSyncMark.decode(mark), time);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private Step syncStep(String name, JdbcCursorItemReader<SearchSyncItem> reader, SearchDocumentType type) {
+		return stepBuilderFactory.get(name)
+			.<SearchSyncItem, SearchSyncItem>chunk(CHUNK_SIZE)
+			.reader(reader)
+			.writer(new SearchSyncItemWriter(searchService, type))
+			.listener(new SearchSyncMarkListener(jobExplorer, searchService))
+			.build();
+	}
+
+	private JdbcCursorItemReader<SearchSyncItem> syncReader(String name, String table, SearchSyncMark mark,
+		Long time) {
+		// 기동 시 자동 실행(jobParameters 없음)은 현재 시각 기준
+		long until = (time == null ? System.currentTimeMillis() : time) - lagMs;
+		Timestamp markUpdatedAt = new Timestamp(mark.getUpdatedAt());
+
+		return new JdbcCursorItemReaderBuilder<SearchSyncItem>()
+			.name(name)
+			.dataSource(dataSource)
+			.sql(String.format(SYNC_QUERY, table))
+			.preparedStatementSetter(ps -> {
+				ps.setTimestamp(1, new Timestamp(until));
+				ps.setTimestamp(2, markUpdatedAt);
+				ps.setTimestamp(3, markUpdatedAt);
+				ps.setLong(4, mark.getId());
+			})
+			.rowMapper((rs, rowNum) -> new SearchSyncItem(rs.getLong("id"),
+				BaseStatus.valueOf(rs.getString("status")), rs.getTimestamp("updated_at").getTime()))
+			// 서버 커서로 나누어 읽는다. (useCursorFetch)
+			.fetchSize(CHUNK_SIZE)
+			// 재시작 위치는 read.count 대신 mark 로 관리한다.
+			.saveState(false)
+			.build();
+	}
+}
@@ -0,0 +1,47 @@
+package com.sikhye.chabak.global.job.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.sync.enabled", havingValue = "true")
+public class SearchSyncJobScheduler {
+
+	private final JobLauncher jobLauncher;
+	private final SearchSyncJobConfiguration searchSyncJobConfiguration;
+
+	public SearchSyncJobScheduler(JobLauncher jobLauncher,
+		SearchSyncJobConfiguration searchSyncJobConfiguration) {
+		this.jobLauncher = jobLauncher;
+		this.searchSyncJobConfiguration = searchSyncJobConfiguration;
+	}
+
+	@Scheduled(cron = "${search.sync.cron:0 */2 * * * *}")
+	public void syncSearchIndex() {
+		JobExecution execution;
+		try {
+			execution = jobLauncher.run(searchSyncJobConfiguration.searchSyncJob(), syncJobParam());
+			log.info(" >> [+] search sync finished with status : " + execution.getStatus());
+		} catch (Exception e) {
+			log.error(">> [-] search sync failed : {}", e.getMessage());
+		}
+	}
+
+	//같은 이름의 batch는 생길 수 없기 때문에 param에 시간을 넣는다.
+	private JobParameters syncJobParam() {
+		Map<String, JobParameter> confMap = new HashMap<>();
+		confMap.put("time", new JobParameter(System.currentTimeMillis()));
+		return new JobParameters(confMap);
+	}
+}
@@ -0,0 +1,41 @@
+package com.sikhye.chabak.global.job.search;
+
+import lombok.Getter;
+
+/**
+ * 검색 인덱스 동기화 high-water mark (마지막으로 반영한 행의 updated_at, ID)
+ * 배치 ExecutionContext 에는 "epochMillis,id" 문자열로 저장한다.
+ */
+@Getter
+public class SearchSyncMark {
+
+	// 첫 동기화는 전체 행을 읽는다.
+	public static final SearchSyncMark INITIAL = new SearchSyncMark(0L, 0L);
+
+	private static final String DELIMITER = ",";
+
+	private final long updatedAt;
+	private final long id;
+
+	public SearchSyncMark(long updatedAt, long id) {
+		this.updatedAt = updatedAt;
+		this.id = id;
+	}
+
+	public boolean isAfter(SearchSyncMark other) {
+		return updatedAt != other.updatedAt ? updatedAt > other.updatedAt : id > other.id;
+	}
+
+	public String encode() {
+		return updatedAt + DELIMITER + id;
+	}
+
+	public static SearchSyncMark decode(String mark) {
+		if (mark == null) {
+			return INITIAL;
+		}
+
+		String[] values = mark.split(DELIMITER);
+		return new SearchSyncMark(Long.parseLong(values[0]), Long.parseLong(values[1]));
+	}
+}
@@ -0,0 +1,99 @@
+package com.sikhye.chabak.global.job.search;
+
+import java.util.List;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import com.sikhye.chabak.service.search.SearchService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스텝 시작 전 이전 실행들이 남긴 high-water mark 를 이어받는다.
+ * 실행 도중 프로세스가 죽어도 커밋된 청크까지의 mark 는 남아 있으므로 다음 실행은 그 지점부터 읽는다.
+ * JobRepository 는 인스턴스가 공유하지만 lucene 인덱스는 인스턴스 로컬이므로, 스텝마다 인덱스 ID 를 남기고
+ * 같은 인덱스가 남긴 mark 만 이어받는다. (다른 인스턴스의 실행이 mark 를 앞당겨 변경분을 건너뛰지 않도록)
+ */
+@Slf4j
+public class SearchSyncMarkListener implements StepExecutionListener {
+
+	public static final String INDEX_ID_KEY = "searchSync.indexId";
+
+	// mark 를 찾을 최근 JobInstance 수 (한 번에 읽는 수, 최대 수)
+	private static final int LOOKUP_PAGE_SIZE = 20;
+	private static final int LOOKUP_MAX_INSTANCES = 200;
+
+	private final JobExplorer jobExplorer;
+	private final SearchService searchService;
+
+	public SearchSyncMarkListener(JobExplorer jobExplorer, SearchService searchService) {
+		this.jobExplorer = jobExplorer;
+		this.searchService = searchService;
+	}
+
+	@Override
+	public void beforeStep(StepExecution stepExecution) {
+		ExecutionContext executionContext = stepExecution.getExecutionContext();
+		if (executionContext.containsKey(SearchSyncItemWriter.MARK_KEY)) {
+			return;
+		}
+
+		String indexId = searchService.getIndexId();
+		executionContext.putString(INDEX_ID_KEY, indexId);
+
+		SearchSyncMark mark = findLastMark(stepExecution, indexId);
+		executionContext.putString(SearchSyncItemWriter.MARK_KEY, mark.encode());
+		log.info(">> [+] {} resumes from mark {}", stepExecution.getStepName(), mark.encode());
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		return null;
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// 최근 실행부터 거슬러 올라가며, 같은 인덱스의 mark 가 나온 페이지까지 중 가장 큰 mark
+	private SearchSyncMark findLastMark(StepExecution current, String indexId) {
+		String jobName = current.getJobExecution().getJobInstance().getJobName();
+
+		SearchSyncMark lastMark = SearchSyncMark.INITIAL;
+		boolean found = false;
+		for (int start = 0; start < LOOKUP_MAX_INSTANCES && !found; start += LOOKUP_PAGE_SIZE) {
+			List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, start, LOOKUP_PAGE_SIZE);
+			if (jobInstances.isEmpty()) {
+				break;
+			}
+
+			for (JobInstance jobInstance : jobInstances) {
+				for (JobExecution jobExecution : jobExplorer.getJobExecutions(jobInstance)) {
+					for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+						ExecutionContext executionContext = stepExecution.getExecutionContext();
+						if (!stepExecution.getStepName().equals(current.getStepName())
+							|| stepExecution.getId().equals(current.getId())
+							|| !indexId.equals(executionContext.getString(INDEX_ID_KEY, null))) {
+							continue;
+						}
+
+						SearchSyncMark mark = SearchSyncMark.decode(
+							executionContext.getString(SearchSyncItemWriter.MARK_KEY, null));
+						if (mark.isAfter(lastMark)) {
+							lastMark = mark;
+						}
+						found = true;
+					}
+				}
+			}
+		}
+
+		return lastMark;
+	}
+}
@@ -30,6 +30,9 @@ public enum BaseResponseStatus {
 	EMPTY_OR_INVALID_TOKEN(false, 2009, "발급된 토큰이 없거나 파싱 오류입니다."),
 	NOT_TO_DELETE(false, 2010, "삭제할 대상이 없습니다."),
 	WRONG_ACCESS(false, 2011, "잘못된 접근입니다."),
+	INVALID_CURSOR(false, 2012, "잘못된 페이지 커서입니다."),
+	SMS_ALREADY_REQUESTED(false, 2013, "이미 발송된 인증코드가 있습니다. 잠시 후 다시 시도해주세요."),
+	SMS_VERIFY_LOCKED(false, 2014, "인증 시도 횟수를 초과하였습니다. 잠시 후 다시 시도해주세요."),
 
 	// Common 형식 관련: 2100~
 	INVALID_EMAIL(false, 2101, "올바른 이메일 형식을 입력해주세요."),
@@ -61,6 +64,9 @@ public enum BaseResponseStatus {
 	INVALID_DISTRICT_CODE(false, 2040, "존재하지 않는 지역코드입니다."),
 	SEARCHED_DUPLICATE_REGION(false, 2041, "해당 코드에 대해 중복된 지역이 검출되었습니다."),
 
+	INVALID_PAGE(false, 2050, "페이지 번호 또는 페이지 크기를 확인해주세요."),
+	INVALID_LIMIT(false, 2051, "조회 개수를 확인해주세요."),
+
 	/**
 	 * 3000 : Response 오류
 	 */
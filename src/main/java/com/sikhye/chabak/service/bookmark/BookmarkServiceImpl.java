@@ -2,6 +2,7 @@ package com.sikhye.chabak.service.bookmark;
 
 import static com.sikhye.chabak.global.constant.BaseStatus.*;
 import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+import static com.sikhye.chabak.utils.transaction.TransactionUtils.*;
 
 import java.util.Collections;
 import java.util.List;
@@ -15,6 +16,7 @@ import com.sikhye.chabak.service.bookmark.domain.Bookmark;
 import com.sikhye.chabak.service.bookmark.domain.BookmarkRepository;
 import com.sikhye.chabak.service.bookmark.dto.BookmarkRes;
 import com.sikhye.chabak.service.jwt.JwtTokenService;
+import com.sikhye.chabak.service.member.context.MemberContextCache;
 import com.sikhye.chabak.service.place.PlaceService;
 import com.sikhye.chabak.service.place.dto.PlaceDetailRes;
 
@@ -29,13 +31,15 @@ public class BookmarkServiceImpl implements BookmarkService {
 	private final PlaceService placeService;
 	private final BookmarkRepository bookmarkRepository;
 	private final JwtTokenService jwtTokenService;
+	private final MemberContextCache memberContextCache;
 
 	@Builder
 	public BookmarkServiceImpl(PlaceService placeService, BookmarkRepository bookmarkRepository,
-		JwtTokenService jwtTokenService) {
+		JwtTokenService jwtTokenService, MemberContextCache memberContextCache) {
 		this.placeService = placeService;
 		this.bookmarkRepository = bookmarkRepository;
 		this.jwtTokenService = jwtTokenService;
+		this.memberContextCache = memberContextCache;
 	}
 
 	@Override
@@ -48,7 +52,7 @@ public class BookmarkServiceImpl implements BookmarkService {
 
 		return bookmarks.stream()
 			.map(bookmark -> {
-				PlaceDetailRes place = placeService.getPlace(bookmark.getPlaceId(), null, null);
+				PlaceDetailRes place = placeService.findPlaceDetail(bookmark.getPlaceId(), null, null);
 				return BookmarkRes.builder()
 					.id(place.getId())
 					.name(place.getName())
@@ -72,7 +76,11 @@ public class BookmarkServiceImpl implements BookmarkService {
 			.memberId(memberId)
 			.placeId(placeId)
 			.build();
-		return bookmarkRepository.save(newBookmark).getId();
+		Long bookmarkId = bookmarkRepository.save(newBookmark).getId();
+
+		// 회원 컨텍스트의 북마크 장소 ID 갱신
+		afterCommit(() -> memberContextCache.evict(memberId));
+		return bookmarkId;
 	}
 
 	@Override
@@ -85,6 +93,7 @@ public class BookmarkServiceImpl implements BookmarkService {
 
 		if (memberId.equals(findBookmark.getMemberId())) {
 			findBookmark.setStatusToDelete();
+			afterCommit(() -> memberContextCache.evict(memberId));
 			return findBookmark.getId();
 		} else {
 			throw new BaseException(NOT_TO_DELETE);
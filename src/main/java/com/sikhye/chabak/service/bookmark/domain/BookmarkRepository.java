@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sikhye.chabak.global.constant.BaseStatus;
 
@@ -12,4 +14,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 	Optional<List<Bookmark>> findBookmarksByMemberIdAndStatus(Long memberId, BaseStatus status);
 
 	Optional<Bookmark> findBookmarkByIdAndStatus(Long id, BaseStatus status);
+
+	@Query("select b.placeId from Bookmark b where b.memberId = :memberId and b.status = :status")
+	List<Long> findPlaceIdsByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") BaseStatus status);
 }
@@ -0,0 +1,75 @@
+package com.sikhye.chabak.service.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 서명 검증을 마친 토큰 -> 인증 주체 캐시 (LRU)
+ * 원문 토큰 대신 SHA-256 해시를 키로 쓰고, 항목은 토큰 만료 시각과 MAX_TTL 중 이른 시각에 만료된다.
+ */
+@Component
+public class JwtClaimsCache {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final long MAX_TTL_SEC = 600;
+
+	private final Cache<String, JwtPrincipal> cache = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfter(new Expiry<String, JwtPrincipal>() {
+			@Override
+			public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+				long untilExpiration = TimeUnit.MILLISECONDS.toNanos(
+					principal.getExpiresAt() - System.currentTimeMillis());
+				return Math.max(0, Math.min(untilExpiration, TimeUnit.SECONDS.toNanos(MAX_TTL_SEC)));
+			}
+
+			@Override
+			public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime,
+				long currentDuration) {
+				return expireAfterCreate(key, principal, currentTime);
+			}
+
+			@Override
+			public long expireAfterRead(String key, JwtPrincipal principal, long currentTime,
+				long currentDuration) {
+				return currentDuration;
+			}
+		})
+		.build();
+
+	public JwtPrincipal get(String token) {
+		JwtPrincipal principal = cache.getIfPresent(hash(token));
+
+		// 만료 직전 조회와 정리 사이의 경계 구간
+		if (principal != null && principal.isExpired(System.currentTimeMillis())) {
+			return null;
+		}
+		return principal;
+	}
+
+	public void put(String token, JwtPrincipal principal) {
+		cache.put(hash(token), principal);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
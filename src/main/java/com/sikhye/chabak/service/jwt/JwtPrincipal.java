@@ -0,0 +1,30 @@
+package com.sikhye.chabak.service.jwt;
+
+import com.sikhye.chabak.service.member.constant.BaseRole;
+
+import lombok.Getter;
+
+/**
+ * 검증된 JWT 의 인증 주체
+ * 요청마다 한 번만 해석해 request attribute 로 보관한다.
+ */
+@Getter
+public class JwtPrincipal {
+
+	public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+	private final Long memberId;
+	private final BaseRole role;
+	// 토큰 만료 시각 (epoch millis)
+	private final long expiresAt;
+
+	public JwtPrincipal(Long memberId, BaseRole role, long expiresAt) {
+		this.memberId = memberId;
+		this.role = role;
+		this.expiresAt = expiresAt;
+	}
+
+	public boolean isExpired(long nowMillis) {
+		return expiresAt <= nowMillis;
+	}
+}
@@ -8,6 +8,7 @@ import java.util.Date;
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -16,7 +17,6 @@ import com.sikhye.chabak.global.exception.BaseException;
 import com.sikhye.chabak.service.member.constant.BaseRole;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
@@ -26,9 +26,11 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenService {
 
 	private final ConfigProperties properties;
+	private final JwtClaimsCache jwtClaimsCache;
 
-	public JwtTokenService(ConfigProperties properties) {
+	public JwtTokenService(ConfigProperties properties, JwtClaimsCache jwtClaimsCache) {
 		this.properties = properties;
+		this.jwtClaimsCache = jwtClaimsCache;
 	}
 
 	// 토큰 유효기간 4일
@@ -62,25 +64,7 @@ public class JwtTokenService {
 		@throws BaseException
  	*/
 	public BaseRole getMemberRole() throws BaseException {
-		//1. JWT 추출
-		String accessToken = getJwt();
-		if (accessToken == null || accessToken.length() == 0) {
-			throw new BaseException(EMPTY_JWT);
-		}
-
-		// 2. JWT parsing
-		Jws<Claims> claims;
-		try {
-			claims = Jwts.parser()
-				.setSigningKey(properties.getJwtSecret())
-				.parseClaimsJws(accessToken);
-		} catch (Exception ignored) {
-			throw new BaseException(INVALID_JWT);
-		}
-
-		// 3. userIdx 추출
-		// ptpt: Object To Long
-		return BaseRole.valueOf(String.valueOf(claims.getBody().get("role")));
+		return getPrincipal().getRole();
 	}
 
 	/*
@@ -89,36 +73,69 @@ public class JwtTokenService {
 		@throws BaseException
  	*/
 	public Long getMemberId() throws BaseException {
-		//1. JWT 추출
-		String accessToken = getJwt();
-		if (accessToken == null || accessToken.length() == 0) {
+		return getPrincipal().getMemberId();
+	}
+
+	/*
+		현재 요청의 인증 주체
+		JwtMemberInterceptor 가 request attribute 에 넣어둔 값을 쓰고, 없으면(인터셉터 제외 경로) 헤더에서 해석해 넣어둔다.
+		@throws BaseException
+ 	*/
+	public JwtPrincipal getPrincipal() throws BaseException {
+		RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+
+		JwtPrincipal principal = (JwtPrincipal)attributes.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE,
+			RequestAttributes.SCOPE_REQUEST);
+		if (principal == null) {
+			principal = resolvePrincipal(getJwt());
+			attributes.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return principal;
+	}
+
+	/*
+		토큰 검증 후 인증 주체 반환 (검증된 토큰은 캐시해 서명 확인을 생략한다)
+		@throws BaseException
+ 	*/
+	public JwtPrincipal resolvePrincipal(String accessToken) throws BaseException {
+		// 1. JWT 추출
+		if (accessToken == null || accessToken.isBlank()) {
 			throw new BaseException(EMPTY_JWT);
 		}
 
-		// 2. JWT parsing
-		Jws<Claims> claims;
+		JwtPrincipal cached = jwtClaimsCache.get(accessToken);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 2. JWT parsing (서명 + 만료일자 확인), 3. memberId, role 추출
+		JwtPrincipal principal;
 		try {
-			claims = Jwts.parser()
+			Claims claims = Jwts.parser()
 				.setSigningKey(properties.getJwtSecret())
-				.parseClaimsJws(accessToken);
+				.parseClaimsJws(accessToken)
+				.getBody();
+
+			// ptpt: Object To Long
+			principal = new JwtPrincipal(
+				Long.valueOf(String.valueOf(claims.get("memberId"))),
+				BaseRole.valueOf(String.valueOf(claims.get("role"))),
+				claims.getExpiration().getTime());
 		} catch (Exception ignored) {
 			throw new BaseException(INVALID_JWT);
 		}
 
-		// 3. userIdx 추출
-		// ptpt: Object To Long
-		return Long.valueOf(String.valueOf(claims.getBody().get("memberId")));
+		jwtClaimsCache.put(accessToken, principal);
+		return principal;
 	}
 
 	// 토큰의 유효성 + 만료일자 확인
 	public boolean validateToken(String jwtToken) {
 		try {
-			Jws<Claims> claims = Jwts.parser()
-				.setSigningKey(properties.getJwtSecret())
-				.parseClaimsJws(jwtToken);
-
-			return !claims.getBody().getExpiration().before(new Date());
-		} catch (Exception e) {
+			resolvePrincipal(jwtToken);
+			return true;
+		} catch (BaseException e) {
 			return false;
 		}
 	}
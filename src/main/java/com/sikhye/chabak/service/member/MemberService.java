@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.member.context.MemberContext;
 import com.sikhye.chabak.service.member.domain.Member;
 import com.sikhye.chabak.service.member.dto.EditMemberReq;
 import com.sikhye.chabak.service.member.dto.JoinReq;
@@ -14,6 +15,7 @@ import com.sikhye.chabak.service.member.dto.LoginRes;
 import com.sikhye.chabak.service.member.dto.MemberDto;
 import com.sikhye.chabak.service.member.dto.PasswordReq;
 import com.sikhye.chabak.service.oauth.constant.OAuthType;
+import com.sikhye.chabak.service.sms.dto.VerificationCodeStatsRes;
 
 public interface MemberService {
 
@@ -66,4 +68,13 @@ public interface MemberService {
 	// 14. 관리자 계정
 	Optional<List<Member>> findAllAdmin();
 
+	// 15. 회원 컨텍스트 (닉네임, 이미지, 권한, 북마크한 장소 ID / 캐시)
+	MemberContext findMemberContext(Long memberId);
+
+	// 16. 중복 확인 필터 재구성 (관리자), 적재한 회원 수 반환
+	long rebuildUniqueFilter();
+
+	// 17. 휴대폰 인증 코드 저장소 현황 (관리자)
+	VerificationCodeStatsRes findVerificationCodeStats();
+
 }
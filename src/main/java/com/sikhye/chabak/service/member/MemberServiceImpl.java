@@ -3,6 +3,7 @@ package com.sikhye.chabak.service.member;
 import static com.sikhye.chabak.global.constant.BaseStatus.*;
 import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
 import static com.sikhye.chabak.service.member.constant.BaseRole.*;
+import static com.sikhye.chabak.utils.transaction.TransactionUtils.*;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,27 +12,31 @@ import java.util.Random;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.bookmark.domain.BookmarkRepository;
 import com.sikhye.chabak.service.image.UploadService;
 import com.sikhye.chabak.service.jwt.JwtTokenService;
+import com.sikhye.chabak.service.member.constant.UniqueField;
+import com.sikhye.chabak.service.member.context.MemberContext;
+import com.sikhye.chabak.service.member.context.MemberContextCache;
 import com.sikhye.chabak.service.member.domain.Member;
 import com.sikhye.chabak.service.member.domain.MemberRepository;
 import com.sikhye.chabak.service.member.dto.EditMemberReq;
 import com.sikhye.chabak.service.member.dto.JoinReq;
 import com.sikhye.chabak.service.member.dto.LoginReq;
 import com.sikhye.chabak.service.member.dto.LoginRes;
+import com.sikhye.chabak.service.member.dto.MemberUniqueMatches;
 import com.sikhye.chabak.service.member.dto.MemberDto;
 import com.sikhye.chabak.service.member.dto.PasswordReq;
+import com.sikhye.chabak.service.member.filter.MemberUniqueFilter;
 import com.sikhye.chabak.service.oauth.constant.OAuthType;
 import com.sikhye.chabak.service.sms.SmsService;
-import com.sikhye.chabak.service.sms.entity.SmsCacheKey;
+import com.sikhye.chabak.service.sms.dto.VerificationCodeStatsRes;
+import com.sikhye.chabak.service.sms.verify.VerificationCodeStore;
 import com.sikhye.chabak.utils.encrypt.EncryptService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -42,25 +47,32 @@ import lombok.extern.slf4j.Slf4j;
 public class MemberServiceImpl implements MemberService {
 
 	private final MemberRepository memberRepository;
-	private final RedisTemplate<String, String> redisTemplate;
+	private final BookmarkRepository bookmarkRepository;
 	private final SmsService smsService;
+	private final VerificationCodeStore verificationCodeStore;
 	private final UploadService s3UploadService;
 	private final EncryptService encryptService;
 	private final JwtTokenService jwtTokenService;
+	private final MemberContextCache memberContextCache;
+	private final MemberUniqueFilter memberUniqueFilter;
 
 	@PersistenceContext
 	private EntityManager em;
 
-	public MemberServiceImpl(MemberRepository memberRepository,
-		RedisTemplate<String, String> redisTemplate, SmsService smsService,
+	public MemberServiceImpl(MemberRepository memberRepository, BookmarkRepository bookmarkRepository,
+		SmsService smsService, VerificationCodeStore verificationCodeStore,
 		UploadService s3UploadService, EncryptService encryptService,
-		JwtTokenService jwtTokenService) {
+		JwtTokenService jwtTokenService, MemberContextCache memberContextCache,
+		MemberUniqueFilter memberUniqueFilter) {
 		this.memberRepository = memberRepository;
-		this.redisTemplate = redisTemplate;
+		this.bookmarkRepository = bookmarkRepository;
 		this.smsService = smsService;
+		this.verificationCodeStore = verificationCodeStore;
 		this.s3UploadService = s3UploadService;
 		this.encryptService = encryptService;
 		this.jwtTokenService = jwtTokenService;
+		this.memberContextCache = memberContextCache;
+		this.memberUniqueFilter = memberUniqueFilter;
 	}
 
 	@Override
@@ -105,23 +117,7 @@ public class MemberServiceImpl implements MemberService {
 		}
 
 		// 닉네임, 이메일, 휴대전화 중복체크
-		Optional<Member> findMemberEmail = memberRepository.findMemberByEmailAndStatus(joinReq.getEmail(), USED);
-		if (findMemberEmail.isPresent()) {
-			throw new BaseException(POST_USERS_EXISTS_EMAIL);
-		}
-
-		Optional<Member> findMemberNickname = memberRepository.findMemberByNicknameAndStatus(joinReq.getNickname(),
-			USED);
-		if (findMemberNickname.isPresent()) {
-			throw new BaseException(POST_USERS_EXISTS_NICKNAME);
-		}
-
-		Optional<Member> findMemberPhoneNumber = memberRepository.findMemberByPhoneNumberAndStatus(
-			joinReq.getPhoneNumber(),
-			USED);
-		if (findMemberPhoneNumber.isPresent()) {
-			throw new BaseException(POST_USERS_EXISTS_PHONE_NUMBER);
-		}
+		checkDuplicated(joinReq.getEmail(), joinReq.getNickname(), joinReq.getPhoneNumber());
 
 		Member newMember = Member.builder()
 			.email(joinReq.getEmail())
@@ -133,6 +129,9 @@ public class MemberServiceImpl implements MemberService {
 		Member savedMember = memberRepository.save(newMember);
 		em.refresh(savedMember);
 
+		memberUniqueFilter.put(UniqueField.EMAIL, savedMember.getEmail());
+		memberUniqueFilter.put(UniqueField.NICKNAME, savedMember.getNickname());
+
 		// JWT 토큰 생성
 		String jwt = jwtTokenService.createJwt(savedMember.getId(), savedMember.getRole());
 		return new LoginRes(savedMember.getId(), jwt);
@@ -141,59 +140,47 @@ public class MemberServiceImpl implements MemberService {
 	@Override
 	public MemberDto lookup() {
 
-		Long memberId = jwtTokenService.getMemberId();
-		Member findMember = memberRepository.findMemberByIdAndStatus(memberId, USED)
-			.orElseThrow(() -> new BaseException(CHECK_USER));
+		MemberContext memberContext = findMemberContext(jwtTokenService.getMemberId());
 
 		return MemberDto.builder()
-			.id(findMember.getId())
-			.imageUrl(findMember.getImageUrl())
-			.nickname(findMember.getNickname())
+			.id(memberContext.getMemberId())
+			.imageUrl(memberContext.getImageUrl())
+			.nickname(memberContext.getNickname())
 			.build();
 	}
 
 	@Override
-	@Transactional
-	@CachePut(value = SmsCacheKey.SMS, key = "#phoneNumber")
 	public String requestPhoneAuth(String phoneNumber) throws BaseException {
 
 		String verifyCode = genRandomNum();
-		String key = SmsCacheKey.SMS.concat("::").concat(phoneNumber);
 
-		redisTemplate.opsForValue().set(key, verifyCode);
+		// 만료 전 코드가 있거나 잠긴 번호면 예외
+		verificationCodeStore.issue(phoneNumber, verifyCode);
 
 		String authMessage = "[ㅊㅂㅊㅂ] 인증 코드 [" + verifyCode + "]를 입력해주세요.";
 
+		// 발송 큐에 넣고 바로 반환 (큐가 가득 차면 SMS_ERROR)
 		try {
 			smsService.sendSms(phoneNumber, authMessage);
-		} catch (Exception exception) {
-			throw new BaseException(SMS_ERROR);
+		} catch (BaseException exception) {
+			verificationCodeStore.discard(phoneNumber);
+			throw exception;
 		}
 
-		String findCode = redisTemplate.opsForValue().get(key);
-		log.info("++findCode = {}, verifyCode = {}", findCode, verifyCode);
-
 		return verifyCode;
 	}
 
 	@Override
-	@CacheEvict(value = SmsCacheKey.SMS, key = "#phoneNumber")
 	public Boolean verifySms(String verifyCode, String phoneNumber) throws BaseException {
-
-		String key = SmsCacheKey.SMS.concat("::").concat(phoneNumber);
-
-		String findCode = redisTemplate.opsForValue().get(key);
-
-		log.info("userInput Code = {}", verifyCode);
-		log.info("inRedis Code = {}", findCode);
-
-		if (!verifyCode.equals(findCode)) {
-			throw new BaseException(INVALID_VERIFY_CODE);
-		}
-
+		verificationCodeStore.verify(phoneNumber, verifyCode);
 		return true;
 	}
 
+	@Override
+	public VerificationCodeStatsRes findVerificationCodeStats() {
+		return verificationCodeStore.getStats();
+	}
+
 	@Override
 	@Transactional
 	public String uploadImage(MultipartFile memberImage) {
@@ -208,6 +195,7 @@ public class MemberServiceImpl implements MemberService {
 			.orElseThrow(() -> new BaseException(CHECK_USER));
 
 		findMember.setImageUrl(imageUrl);
+		afterCommit(() -> memberContextCache.evict(memberId));
 
 		return findMember.getImageUrl();
 	}
@@ -215,8 +203,8 @@ public class MemberServiceImpl implements MemberService {
 	@Override
 	@Transactional
 	public Long editMemberInform(EditMemberReq editMemberReq) {
-		// 닉네임 중복체크
-		Boolean duplicatedNickname = isDuplicatedNickname(editMemberReq.getNickname());
+		// 닉네임 중복체크 (nickname 에 unique 제약이 없으므로 필터 없이 DB 로 확인)
+		Boolean duplicatedNickname = memberRepository.existsByNicknameAndStatus(editMemberReq.getNickname(), USED);
 
 		System.out.println("duplicatedNickname = " + duplicatedNickname);
 
@@ -236,6 +224,8 @@ public class MemberServiceImpl implements MemberService {
 		} else {
 			findMember.editMemberNickname(editMemberReq.getNickname());
 		}
+		memberUniqueFilter.put(UniqueField.NICKNAME, editMemberReq.getNickname());
+		afterCommit(() -> memberContextCache.evict(memberId));
 
 		return findMember.getId();
 	}
@@ -277,18 +267,37 @@ public class MemberServiceImpl implements MemberService {
 
 		memberRepository.findMemberByIdAndStatus(memberId, USED)
 			.orElseThrow(() -> new BaseException(NOT_TO_DELETE)).setStatusToDelete();
+		afterCommit(() -> memberContextCache.evict(memberId));
 
 		return memberId;
 	}
 
+	// 입력 중 확인용(advisory). 필터가 놓친 값은 거짓 음성이 될 수 있으므로 쓰기 경로에서는 DB 로 확인한다.
 	@Override
 	public Boolean isDuplicatedNickname(String nickname) {
-		return memberRepository.existsByNicknameAndStatus(nickname, USED);
+		if (!memberUniqueFilter.mightExist(UniqueField.NICKNAME, nickname)) {
+			return false;
+		}
+
+		Boolean duplicated = memberRepository.existsByNicknameAndStatus(nickname, USED);
+		if (!duplicated) {
+			memberUniqueFilter.recordFalsePositive(UniqueField.NICKNAME);
+		}
+		return duplicated;
 	}
 
+	// 입력 중 확인용(advisory). 필터가 놓친 값은 거짓 음성이 될 수 있으므로 쓰기 경로에서는 DB 로 확인한다.
 	@Override
 	public Boolean isDuplicatedEmail(String email) {
-		return memberRepository.existsByEmailAndStatus(email, USED);
+		if (!memberUniqueFilter.mightExist(UniqueField.EMAIL, email)) {
+			return false;
+		}
+
+		Boolean duplicated = memberRepository.existsByEmailAndStatus(email, USED);
+		if (!duplicated) {
+			memberUniqueFilter.recordFalsePositive(UniqueField.EMAIL);
+		}
+		return duplicated;
 	}
 
 	@Override
@@ -311,9 +320,50 @@ public class MemberServiceImpl implements MemberService {
 		return memberRepository.findMembersByRoleAndStatus(ROLE_ADMIN, USED);
 	}
 
+	@Override
+	public MemberContext findMemberContext(Long memberId) {
+		MemberContext memberContext = memberContextCache.get(memberId, this::loadMemberContext);
+		if (memberContext == null) {
+			throw new BaseException(CHECK_USER);
+		}
+
+		return memberContext;
+	}
+
+	@Override
+	public long rebuildUniqueFilter() {
+		return memberUniqueFilter.rebuild();
+	}
+
 	// ================================================
 	// INTERNAL USE
 	// ================================================
+	/**
+	 * 가입 중복 확인
+	 * 블룸 필터는 인스턴스마다 따로 갱신되어 놓친 값이 있을 수 있으므로 쓰지 않고, 세 항목을 한 번의 쿼리로 확인한다.
+	 */
+	private void checkDuplicated(String email, String nickname, String phoneNumber) {
+		MemberUniqueMatches matches = memberRepository.countUniqueFieldMatches(email, nickname, phoneNumber, USED);
+
+		// 기존과 같은 순서(이메일 -> 닉네임 -> 휴대전화)로 오류를 낸다.
+		if (matches.isEmailDuplicated()) {
+			throw new BaseException(POST_USERS_EXISTS_EMAIL);
+		}
+		if (matches.isNicknameDuplicated()) {
+			throw new BaseException(POST_USERS_EXISTS_NICKNAME);
+		}
+		if (matches.isPhoneNumberDuplicated()) {
+			throw new BaseException(POST_USERS_EXISTS_PHONE_NUMBER);
+		}
+	}
+
+	private MemberContext loadMemberContext(Long memberId) {
+		return memberRepository.findMemberByIdAndStatus(memberId, USED)
+			.map(member -> new MemberContext(member.getId(), member.getNickname(), member.getImageUrl(),
+				member.getRole(), bookmarkRepository.findPlaceIdsByMemberIdAndStatus(memberId, USED)))
+			.orElse(null);
+	}
+
 	private String genRandomNum() {
 		int maxNumLen = 6;
 
@@ -0,0 +1,6 @@
+package com.sikhye.chabak.service.member.constant;
+
+// 중복 확인 필터를 두는 항목 (입력 중 확인 API : 이메일, 닉네임)
+public enum UniqueField {
+	EMAIL, NICKNAME
+}
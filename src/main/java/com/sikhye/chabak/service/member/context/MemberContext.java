@@ -0,0 +1,46 @@
+package com.sikhye.chabak.service.member.context;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.sikhye.chabak.service.member.constant.BaseRole;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 인증된 회원의 조회용 스냅샷 (불변)
+ * 북마크한 장소 ID 는 정렬된 long 배열로 보관해 박싱 없이 이진 탐색한다.
+ */
+@Getter
+public class MemberContext {
+
+	private final Long memberId;
+	private final String nickname;
+	private final String imageUrl;
+	private final BaseRole role;
+
+	@Getter(AccessLevel.NONE)
+	private final long[] bookmarkedPlaceIds;
+
+	public MemberContext(Long memberId, String nickname, String imageUrl, BaseRole role,
+		Collection<Long> bookmarkedPlaceIds) {
+		this.memberId = memberId;
+		this.nickname = nickname;
+		this.imageUrl = imageUrl;
+		this.role = role;
+		this.bookmarkedPlaceIds = bookmarkedPlaceIds.stream()
+			.mapToLong(Long::longValue)
+			.sorted()
+			.distinct()
+			.toArray();
+	}
+
+	public boolean isBookmarked(long placeId) {
+		return Arrays.binarySearch(bookmarkedPlaceIds, placeId) >= 0;
+	}
+
+	public int getBookmarkCount() {
+		return bookmarkedPlaceIds.length;
+	}
+}
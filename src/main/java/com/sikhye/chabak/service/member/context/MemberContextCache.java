@@ -0,0 +1,81 @@
+package com.sikhye.chabak.service.member.context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 컨텍스트 로컬 캐시 (memberId -> MemberContext)
+ * 회원 정보 / 북마크 변경 시 커밋 후 무효화하고, pub/sub 으로 다른 인스턴스의 항목도 지운다.
+ */
+@Slf4j
+@Component
+public class MemberContextCache implements MessageListener {
+
+	private static final String INVALIDATE_TOPIC = "member-context-invalidate";
+	private static final long MAXIMUM_SIZE = 10_000;
+	// 무효화 메시지를 놓친 경우의 최대 지연
+	private static final long EXPIRE_SEC = 600;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Cache<Long, MemberContext> localCache = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(EXPIRE_SEC, TimeUnit.SECONDS)
+		.build();
+
+	public MemberContextCache(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_TOPIC));
+	}
+
+	/**
+	 * @param memberId 회원 ID
+	 * @param loader   캐시에 없을 때 DB 에서 읽어오는 함수 (없는 회원이면 null, 캐시하지 않는다)
+	 */
+	public MemberContext get(Long memberId, Function<Long, MemberContext> loader) {
+		return localCache.get(memberId, loader);
+	}
+
+	/**
+	 * 회원 컨텍스트 무효화 (트랜잭션 커밋 후 호출)
+	 */
+	public void evict(Long memberId) {
+		localCache.invalidate(memberId);
+
+		try {
+			redisTemplate.convertAndSend(INVALIDATE_TOPIC, memberId.toString());
+		} catch (Exception e) {
+			// 다른 인스턴스는 만료 시간(EXPIRE_SEC) 이후 자연히 갱신된다.
+			log.error(">> [-] member context evict failed : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String memberId = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (memberId != null) {
+			localCache.invalidate(Long.parseLong(memberId));
+		}
+	}
+}
@@ -3,10 +3,15 @@ package com.sikhye.chabak.service.member.domain;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sikhye.chabak.global.constant.BaseStatus;
 import com.sikhye.chabak.service.member.constant.BaseRole;
+import com.sikhye.chabak.service.member.dto.MemberUniqueMatches;
+import com.sikhye.chabak.service.member.filter.MemberUniqueValues;
 import com.sikhye.chabak.service.oauth.constant.OAuthType;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -30,4 +35,22 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
 	Optional<List<Member>> findMembersByRoleAndStatus(BaseRole role, BaseStatus status);
 
+	long countByStatus(BaseStatus status);
+
+	// 가입 중복 확인 : 항목별 일치 회원 수 (비교는 DB 콜레이션 기준, 일치하는 회원이 없으면 모두 null)
+	@Query("select new com.sikhye.chabak.service.member.dto.MemberUniqueMatches("
+		+ "sum(case when m.email = :email then 1 else 0 end),"
+		+ " sum(case when m.nickname = :nickname then 1 else 0 end),"
+		+ " sum(case when m.phoneNumber = :phoneNumber then 1 else 0 end))"
+		+ " from Member m where m.status = :status"
+		+ " and (m.email = :email or m.nickname = :nickname or m.phoneNumber = :phoneNumber)")
+	MemberUniqueMatches countUniqueFieldMatches(@Param("email") String email, @Param("nickname") String nickname,
+		@Param("phoneNumber") String phoneNumber, @Param("status") BaseStatus status);
+
+	// 중복 확인 필터 적재용 (id 기준 keyset 페이지)
+	@Query("select new com.sikhye.chabak.service.member.filter.MemberUniqueValues(m.id, m.email, m.nickname)"
+		+ " from Member m where m.status = :status and m.id > :lastId order by m.id")
+	List<MemberUniqueValues> findUniqueValues(@Param("status") BaseStatus status, @Param("lastId") Long lastId,
+		Pageable pageable);
+
 }
@@ -0,0 +1,29 @@
+package com.sikhye.chabak.service.member.dto;
+
+/**
+ * 가입 중복 확인 결과 (항목별 일치 회원 수, 일치하는 회원이 없으면 null)
+ */
+public class MemberUniqueMatches {
+
+	private final Long emailCount;
+	private final Long nicknameCount;
+	private final Long phoneNumberCount;
+
+	public MemberUniqueMatches(Long emailCount, Long nicknameCount, Long phoneNumberCount) {
+		this.emailCount = emailCount;
+		this.nicknameCount = nicknameCount;
+		this.phoneNumberCount = phoneNumberCount;
+	}
+
+	public boolean isEmailDuplicated() {
+		return emailCount != null && emailCount > 0;
+	}
+
+	public boolean isNicknameDuplicated() {
+		return nicknameCount != null && nicknameCount > 0;
+	}
+
+	public boolean isPhoneNumberDuplicated() {
+		return phoneNumberCount != null && phoneNumberCount > 0;
+	}
+}
@@ -0,0 +1,302 @@
+package com.sikhye.chabak.service.member.filter;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+
+import java.text.Normalizer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.member.constant.UniqueField;
+import com.sikhye.chabak.service.member.domain.MemberRepository;
+import com.sikhye.chabak.utils.bloom.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 / 닉네임 중복 확인(입력 중 확인 API)용 블룸 필터
+ * 필터에 없는 값은 DB 를 조회하지 않고 사용 가능으로 판단하고, 있을 수도 있는 값만 DB 에서 확인한다.
+ * 가입 / 수정 시 값을 추가하고 pub/sub 으로 다른 인스턴스의 필터에도 추가한다. (값 대신 해시만 전달)
+ * 메시지를 놓친 인스턴스는 재구성 전까지 일부 값을 없다고 판단할 수 있으므로, 가입 시 중복 확인은 항상 DB 로 한다.
+ * 삭제는 반영할 수 없으므로(오탐으로만 남는다) 재구성으로 정리한다.
+ */
+@Slf4j
+@Component
+public class MemberUniqueFilter implements MessageListener {
+
+	private static final String PUT_TOPIC = "member-unique-filter-put";
+
+	private static final int LOAD_BATCH_SIZE = 5_000;
+	private static final long MIN_EXPECTED_INSERTIONS = 10_000;
+	private static final double TARGET_FPP = 0.01;
+	// 재구성 시작 전 이 시간 안에 추가된 값은 재구성 후 다시 넣는다. (가입 트랜잭션이 아직 커밋되지 않아 적재 조회에서 빠진 값)
+	private static final long RECENT_RETAIN_MS = 60_000;
+
+	// normalize : 조합 문자, 서식 문자(zero-width 등)
+	private static final Pattern MARKS = Pattern.compile("[\\p{M}\\p{Cf}]");
+	private static final Pattern REPEATED_S = Pattern.compile("s+");
+
+	private final MemberRepository memberRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Map<UniqueField, Counter> misses = new EnumMap<>(UniqueField.class);
+	private final Map<UniqueField, Counter> maybes = new EnumMap<>(UniqueField.class);
+	private final Map<UniqueField, Counter> falsePositives = new EnumMap<>(UniqueField.class);
+
+	// 적재 전에는 null (모든 값을 DB 에서 확인)
+	private volatile Map<UniqueField, BloomFilter> filters;
+
+	// 최근 추가된 값 (재구성 중에는 재구성 시작 시점 기준으로 보관)
+	private final Queue<RecentPut> recentPuts = new ConcurrentLinkedQueue<>();
+	private volatile long rebuildStartedAt = Long.MAX_VALUE;
+
+	public MemberUniqueFilter(MemberRepository memberRepository, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+		this.memberRepository = memberRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+
+		for (UniqueField field : UniqueField.values()) {
+			String tag = field.name().toLowerCase();
+			misses.put(field, counter(meterRegistry, tag, "miss"));
+			maybes.put(field, counter(meterRegistry, tag, "maybe"));
+			falsePositives.put(field, counter(meterRegistry, tag, "false_positive"));
+
+			Gauge.builder("member.unique.filter.fpp.estimated", this, filter -> filter.expectedFpp(field))
+				.description("채워진 비트로 추정한 오탐률")
+				.tag("field", tag)
+				.register(meterRegistry);
+			Gauge.builder("member.unique.filter.fpp.observed", this, filter -> filter.observedFpp(field))
+				.description("DB 확인 결과 실제 오탐 비율 (오탐 / (확정 미존재 + 오탐))")
+				.tag("field", tag)
+				.register(meterRegistry);
+		}
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(PUT_TOPIC));
+	}
+
+	/**
+	 * DB 의 사용 중(USED) 회원으로 필터 재구성
+	 *
+	 * @return 적재한 회원 수
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized long rebuild() {
+		rebuildStartedAt = System.currentTimeMillis();
+
+		try {
+			long expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, memberRepository.countByStatus(USED) * 2);
+
+			Map<UniqueField, BloomFilter> next = new EnumMap<>(UniqueField.class);
+			for (UniqueField field : UniqueField.values()) {
+				next.put(field, BloomFilter.create(expectedInsertions, TARGET_FPP));
+			}
+
+			long loaded = 0;
+			long lastId = 0;
+			List<MemberUniqueValues> batch;
+			do {
+				batch = memberRepository.findUniqueValues(USED, lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+				for (MemberUniqueValues values : batch) {
+					putTo(next, UniqueField.EMAIL, values.getEmail());
+					putTo(next, UniqueField.NICKNAME, values.getNickname());
+					lastId = values.getId();
+				}
+				loaded += batch.size();
+			} while (batch.size() == LOAD_BATCH_SIZE);
+
+			// 교체 후 최근 추가분을 다시 넣어, 교체 직전까지 이전 필터에만 들어간 값을 보충한다.
+			filters = next;
+			for (RecentPut recentPut : recentPuts) {
+				next.get(recentPut.field).putHash(recentPut.hash);
+			}
+
+			log.info(">> [+] member unique filter loaded : {} members", loaded);
+			return loaded;
+		} finally {
+			rebuildStartedAt = Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * @return false 면 확실히 없는 값 (DB 조회 불필요)
+	 */
+	public boolean mightExist(UniqueField field, String value) {
+		Map<UniqueField, BloomFilter> current = filters;
+		if (current == null || value == null) {
+			return true;
+		}
+
+		if (current.get(field).mightContain(normalize(value))) {
+			maybes.get(field).increment();
+			return true;
+		}
+
+		misses.get(field).increment();
+		return false;
+	}
+
+	// mightExist 가 true 였지만 DB 에 없던 경우
+	public void recordFalsePositive(UniqueField field) {
+		falsePositives.get(field).increment();
+	}
+
+	// 트랜잭션 커밋 전에 넣는다. (먼저 넣어서 생기는 오탐은 DB 확인으로 걸러진다)
+	public void put(UniqueField field, String value) {
+		if (value == null) {
+			return;
+		}
+
+		long hash = BloomFilter.hash(normalize(value));
+		putHash(field, hash);
+
+		try {
+			redisTemplate.convertAndSend(PUT_TOPIC, field.name() + ":" + hash);
+		} catch (Exception e) {
+			// 다른 인스턴스는 재구성 전까지 이 값을 없다고 판단할 수 있다. (가입 시에는 DB 로 확인)
+			log.error(">> [-] member unique filter publish failed : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+
+		// 자신이 보낸 메시지도 받지만, 이미 켜진 비트라 결과는 같다.
+		int separator = body.indexOf(':');
+		putHash(UniqueField.valueOf(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+	}
+
+	/**
+	 * DB(MySQL *_ci 콜레이션)에서 같은 값으로 비교되는 문자열이 반드시 같은 키가 되도록 정규화
+	 * 콜레이션마다 규칙이 달라(general_ci : ß = s, unicode_ci / 0900_ai_ci : ß = ss 등) 정확히 같게 만들 수 없으므로
+	 * 어느 쪽보다도 넓게 같은 값으로 본다. 더 넓게 묶여 생기는 오탐은 DB 확인으로 걸러진다.
+	 * 앞뒤 공백, 대소문자, 악센트, 서식 문자를 무시하고 합자 / 특수 라틴 문자를 풀어 쓰며, 연속된 s 는 하나로 본다.
+	 */
+	public static String normalize(String value) {
+		String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFKD);
+		String folded = MARKS.matcher(decomposed).replaceAll("")
+			.toUpperCase(Locale.ROOT)
+			.toLowerCase(Locale.ROOT);
+
+		StringBuilder key = new StringBuilder(folded.length());
+		for (int i = 0; i < folded.length(); i++) {
+			char c = folded.charAt(i);
+			switch (c) {
+				case 'æ':
+					key.append("ae");
+					break;
+				case 'œ':
+					key.append("oe");
+					break;
+				case 'ø':
+					key.append('o');
+					break;
+				case 'đ':
+				case 'ð':
+					key.append('d');
+					break;
+				case 'ł':
+					key.append('l');
+					break;
+				case 'ħ':
+					key.append('h');
+					break;
+				case 'ı':
+					key.append('i');
+					break;
+				case 'þ':
+					key.append("th");
+					break;
+				default:
+					key.append(c);
+			}
+		}
+
+		// toUpperCase 에서 ß -> SS 로 풀린 것을 포함해, s 의 반복은 하나로 본다.
+		return REPEATED_S.matcher(key).replaceAll("s");
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void putHash(UniqueField field, long hash) {
+		long now = System.currentTimeMillis();
+
+		recentPuts.add(new RecentPut(field, hash, now));
+		Map<UniqueField, BloomFilter> current = filters;
+		if (current != null) {
+			current.get(field).putHash(hash);
+		}
+
+		long threshold = Math.min(now, rebuildStartedAt) - RECENT_RETAIN_MS;
+		RecentPut oldest;
+		while ((oldest = recentPuts.peek()) != null && oldest.putAt < threshold) {
+			recentPuts.poll();
+		}
+	}
+
+	private static void putTo(Map<UniqueField, BloomFilter> target, UniqueField field, String value) {
+		if (value != null) {
+			target.get(field).put(normalize(value));
+		}
+	}
+
+	private double expectedFpp(UniqueField field) {
+		Map<UniqueField, BloomFilter> current = filters;
+		return current == null ? 0 : current.get(field).expectedFpp();
+	}
+
+	private double observedFpp(UniqueField field) {
+		double falsePositive = falsePositives.get(field).count();
+		double negatives = misses.get(field).count() + falsePositive;
+		return negatives == 0 ? 0 : falsePositive / negatives;
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String field, String result) {
+		return Counter.builder("member.unique.filter")
+			.description("회원 중복 확인 필터 판정 수")
+			.tag("field", field)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static final class RecentPut {
+		private final UniqueField field;
+		private final long hash;
+		private final long putAt;
+
+		private RecentPut(UniqueField field, long hash, long putAt) {
+			this.field = field;
+			this.hash = hash;
+			this.putAt = putAt;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.sikhye.chabak.service.member.filter;
+
+import lombok.Getter;
+
+/**
+ * 중복 확인 필터 적재용 (회원 ID, 이메일, 닉네임)
+ */
+@Getter
+public class MemberUniqueValues {
+
+	private final Long id;
+	private final String email;
+	private final String nickname;
+
+	public MemberUniqueValues(Long id, String email, String nickname) {
+		this.id = id;
+		this.email = email;
+		this.nickname = nickname;
+	}
+}
@@ -4,9 +4,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.sikhye.chabak.service.place.constant.RankWindow;
 import com.sikhye.chabak.service.place.constant.SortType;
 import com.sikhye.chabak.service.place.domain.Place;
-import com.sikhye.chabak.service.place.domain.PlaceTag;
 import com.sikhye.chabak.service.place.dto.PlaceAroundRes;
 import com.sikhye.chabak.service.place.dto.PlaceCommentReq;
 import com.sikhye.chabak.service.place.dto.PlaceCommentRes;
@@ -15,12 +15,17 @@ import com.sikhye.chabak.service.place.dto.PlaceRankRes;
 import com.sikhye.chabak.service.place.dto.PlaceSearchRes;
 import com.sikhye.chabak.service.place.dto.PlaceTagReq;
 import com.sikhye.chabak.service.place.dto.PlaceTagRes;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
 
 public interface PlaceService {
 
 	// 01. 장소 상세정보 API
 	PlaceDetailRes getPlace(Long placeId, Double latitude, Double longitude);
 
+	// 01-1. 장소 상세정보 (내부 호출용, 조회수 증가 X)
+	PlaceDetailRes findPlaceDetail(Long placeId, Double latitude, Double longitude);
+
 	// 02. 장소 반경조회 API
 	List<PlaceAroundRes> aroundPlace(Double latitude, Double longitude, Double radius);
 
@@ -63,6 +68,9 @@ public interface PlaceService {
 	// 14. 장소 랭킹
 	List<PlaceRankRes> getTop5PlaceRanks();
 
+	// 14-1. 기간별 장소 랭킹
+	List<PlaceRankRes> getTop5PlaceRanks(RankWindow window);
+
 	// // 20211216
 	// // 15. 모든 장소 조회 ( ES 용도 )
 	// List<Place> findPlaces();
@@ -75,7 +83,11 @@ public interface PlaceService {
 	// 15. 검색 전용
 	List<Place> searchPlacesBy(String keyword);
 
-	List<PlaceTag> searchPlaceTagsBy(String tagName);
+	List<Place> searchPlacesByFulltext(String keyword, int page, int size);
+
+	List<SearchPlaceRes> searchPlacesByTags(TagQuery tagQuery, int page, int size);
+
+	List<SearchPlaceRes> findSearchPlacesByIds(List<Long> placeIds);
 
 	Optional<Place> findBy(Long id);
 
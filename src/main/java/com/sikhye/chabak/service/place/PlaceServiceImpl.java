@@ -3,32 +3,39 @@ package com.sikhye.chabak.service.place;
 import static com.sikhye.chabak.global.constant.BaseStatus.*;
 import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
 import static com.sikhye.chabak.service.place.constant.SortType.*;
-import static java.util.Objects.*;
+import static com.sikhye.chabak.utils.search.FulltextUtils.*;
+import static com.sikhye.chabak.utils.transaction.TransactionUtils.*;
 
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sikhye.chabak.global.exception.BaseException;
-import com.sikhye.chabak.global.exception.ExceptionFunction;
 import com.sikhye.chabak.service.jwt.JwtTokenService;
 import com.sikhye.chabak.service.member.MemberService;
-import com.sikhye.chabak.service.member.domain.Member;
+import com.sikhye.chabak.service.member.context.MemberContext;
+import com.sikhye.chabak.service.place.cache.CachedPlaceDetail;
+import com.sikhye.chabak.service.place.cache.PlaceDetailCache;
+import com.sikhye.chabak.service.place.constant.RankWindow;
 import com.sikhye.chabak.service.place.constant.SortType;
-import com.sikhye.chabak.service.place.domain.DistrictRepository;
+import com.sikhye.chabak.service.place.district.DistrictDirectory;
 import com.sikhye.chabak.service.place.domain.Place;
 import com.sikhye.chabak.service.place.domain.PlaceComment;
 import com.sikhye.chabak.service.place.domain.PlaceCommentRepository;
@@ -46,7 +53,16 @@ import com.sikhye.chabak.service.place.dto.PlaceRankRes;
 import com.sikhye.chabak.service.place.dto.PlaceSearchRes;
 import com.sikhye.chabak.service.place.dto.PlaceTagReq;
 import com.sikhye.chabak.service.place.dto.PlaceTagRes;
-
+import com.sikhye.chabak.service.place.geo.PlaceGridIndex;
+import com.sikhye.chabak.service.place.view.PlaceRankSnapshot;
+import com.sikhye.chabak.service.place.view.PlaceViewCounter;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.event.SearchDocumentChangedEvent;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -58,31 +74,66 @@ public class PlaceServiceImpl implements PlaceService {
 	private final PlaceImageRepository placeImageRepository;
 	private final PlaceCommentRepository placeCommentRepository;
 	private final PlaceTagRepository placeTagRepository;
-	private final DistrictRepository districtRepository;
+	private final DistrictDirectory districtDirectory;
 	private final MemberService memberService;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final JwtTokenService jwtTokenService;
+	private final PlaceGridIndex placeGridIndex;
+	private final PlaceViewCounter placeViewCounter;
+	private final PlaceRankSnapshot placeRankSnapshot;
+	private final PlaceDetailCache placeDetailCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final DistributionSummary redisRoundTrips;
 
-	private final String ZSET_KEY = "views";
+	private final String ZSET_KEY = PlaceViewCounter.VIEWS_KEY;
 
 	public PlaceServiceImpl(PlaceRepository placeRepository,
 		PlaceImageRepository placeImageRepository,
 		PlaceCommentRepository placeCommentRepository,
 		PlaceTagRepository placeTagRepository,
-		DistrictRepository districtRepository, MemberService memberService,
-		RedisTemplate<String, String> redisTemplate, JwtTokenService jwtTokenService) {
+		DistrictDirectory districtDirectory, MemberService memberService,
+		RedisTemplate<String, String> redisTemplate, JwtTokenService jwtTokenService,
+		PlaceGridIndex placeGridIndex, PlaceViewCounter placeViewCounter,
+		PlaceRankSnapshot placeRankSnapshot, PlaceDetailCache placeDetailCache,
+		ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
 		this.placeRepository = placeRepository;
 		this.placeImageRepository = placeImageRepository;
 		this.placeCommentRepository = placeCommentRepository;
 		this.placeTagRepository = placeTagRepository;
-		this.districtRepository = districtRepository;
+		this.districtDirectory = districtDirectory;
 		this.memberService = memberService;
 		this.redisTemplate = redisTemplate;
 		this.jwtTokenService = jwtTokenService;
+		this.placeGridIndex = placeGridIndex;
+		this.placeViewCounter = placeViewCounter;
+		this.placeRankSnapshot = placeRankSnapshot;
+		this.placeDetailCache = placeDetailCache;
+		this.eventPublisher = eventPublisher;
+		this.redisRoundTrips = DistributionSummary.builder("place.search.redis.round-trips")
+			.description("인기순 장소 검색 요청당 Redis 왕복 횟수")
+			.register(meterRegistry);
 	}
 
 	@Override
 	public PlaceDetailRes getPlace(Long placeId, Double latitude, Double longitude) {
+		PlaceDetailRes placeDetail = findPlaceDetail(placeId, latitude, longitude);
+
+		//조회 수 증가 (주기적으로 views ZSET 에 반영)
+		placeViewCounter.increment(placeId);
+
+		return placeDetail;
+	}
+
+	@Override
+	public PlaceDetailRes findPlaceDetail(Long placeId, Double latitude, Double longitude) {
+		CachedPlaceDetail cached = placeDetailCache.get(placeId, () -> loadPlaceDetail(placeId));
+
+		return cached.getDetail()
+			.withDistance(getDistance(latitude, longitude, cached.getLatitude(), cached.getLongitude()));
+	}
+
+	// 거리를 제외한 장소 상세 (캐시 대상)
+	private CachedPlaceDetail loadPlaceDetail(Long placeId) {
 
 		// 장소/이미지/리뷰
 		Place place = placeRepository.findPlaceByIdAndStatus(placeId, USED)
@@ -121,21 +172,22 @@ public class PlaceServiceImpl implements PlaceService {
 						.build())
 				.collect(Collectors.toList()))
 			.phoneNumber(place.getPhoneNumber())
-			.distance(getDistance(latitude, longitude, place.getLatitude(), place.getLongitude()))
 			.url(place.getUrl())
 			.reviewCount(reviewCount)
 			.imageCount(imageCount)
 			.tagNames(placeTagNames)
 			.build();
 
-		//조회 수 증가
-		redisTemplate.opsForZSet().incrementScore(ZSET_KEY, Long.toString(place.getId()), 1);
-
-		return placeDetail;
+		return new CachedPlaceDetail(placeDetail, place.getLatitude(), place.getLongitude());
 	}
 
 	@Override
 	public List<PlaceAroundRes> aroundPlace(Double latitude, Double longitude, Double radius) {
+		// 좌표 인덱스 적재 전에는 DB 조회
+		if (placeGridIndex.isReady()) {
+			return placeGridIndex.findNearby(latitude, longitude, radius);
+		}
+
 		return placeRepository.findPlaceNearbyPoint(latitude, longitude, radius).orElseGet(Collections::emptyList);
 	}
 
@@ -146,6 +198,13 @@ public class PlaceServiceImpl implements PlaceService {
 			.orElseThrow(() -> new BaseException(DELETE_EMPTY));
 
 		findPlace.setStatusToDelete();
+		afterCommit(() -> {
+			placeGridIndex.remove(placeId);
+			placeRankSnapshot.evict(placeId);
+			placeDetailCache.evict(placeId);
+		});
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.PLACE, placeId));
+
 		return findPlace.getId();
 	}
 
@@ -163,6 +222,11 @@ public class PlaceServiceImpl implements PlaceService {
 		Place findPlace = placeRepository.findPlaceByIdAndStatus(placeId, USED)
 			.orElseThrow(() -> new BaseException(SEARCH_NOT_FOUND_PLACE));
 		findPlace.setPoint(latitude, longitude, clearedCode);
+		afterCommit(() -> {
+			placeGridIndex.put(placeId, latitude, longitude);
+			placeRankSnapshot.evict(placeId);
+			placeDetailCache.evict(placeId);
+		});
 
 		return findPlace.getId();
 	}
@@ -181,6 +245,8 @@ public class PlaceServiceImpl implements PlaceService {
 	@Transactional
 	public List<PlaceTagRes> addPlaceTags(Long placeId, PlaceTagReq placeTagReq) {
 		List<String> placeTagNames = placeTagReq.getPlaceTags();
+		afterCommit(() -> placeDetailCache.evict(placeId));
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.PLACE, placeId));
 
 		return placeTagNames.stream()
 			.map(s -> {
@@ -205,6 +271,8 @@ public class PlaceServiceImpl implements PlaceService {
 			throw new BaseException(SEARCH_NOT_FOUND_PLACE);
 
 		findPlaceTag.setName(placeTagName);
+		afterCommit(() -> placeDetailCache.evict(placeId));
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.PLACE, placeId));
 
 		return placeTagId;
 	}
@@ -219,6 +287,8 @@ public class PlaceServiceImpl implements PlaceService {
 			throw new BaseException(SEARCH_NOT_FOUND_PLACE);
 
 		findPlaceTag.setStatusToDelete();
+		afterCommit(() -> placeDetailCache.evict(placeId));
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.PLACE, placeId));
 
 		return placeTagId;
 	}
@@ -247,6 +317,8 @@ public class PlaceServiceImpl implements PlaceService {
 			.content(commentReq.getContent())
 			.build();
 
+		afterCommit(() -> placeDetailCache.evict(placeId));
+
 		return placeCommentRepository.save(toSavePlaceReview).getId();
 
 	}
@@ -263,6 +335,7 @@ public class PlaceServiceImpl implements PlaceService {
 		}
 
 		findPlaceReview.setContent(commentReq.getContent());
+		afterCommit(() -> placeDetailCache.evict(findPlaceReview.getPlaceId()));
 
 		return findPlaceReview.getId();
 	}
@@ -280,6 +353,7 @@ public class PlaceServiceImpl implements PlaceService {
 			throw new BaseException(DELETE_EMPTY);
 		} else {
 			findPlaceReview.setStatusToDelete();
+			afterCommit(() -> placeDetailCache.evict(placeId));
 
 			return findPlaceReview.getId();
 		}
@@ -299,26 +373,19 @@ public class PlaceServiceImpl implements PlaceService {
 
 		Long memberId = jwtTokenService.getMemberId();
 
-		Member findMember = memberService.findMemberBy(memberId)
-			.orElseThrow(() -> new BaseException(CHECK_USER));
+		MemberContext memberContext = memberService.findMemberContext(memberId);
 
 		List<Place> places = placeRepository.findPlacesByNameContainingOrAddressContainingAndStatus(query, query, USED)
 			.orElseGet(Collections::emptyList);
 
-		Stream<PlaceSearchRes> placeSearchResStream = placesToSearchDTOs(places, findMember, lat, lng);
+		Stream<PlaceSearchRes> placeSearchResStream = placesToSearchDTOs(places, memberContext, lat, lng);
 
 		if (sortType.equals(DISTANCE)) {
 			return placeSearchResStream
 				.sorted(Comparator.comparingDouble(PlaceSearchRes::getDistance))
 				.collect(Collectors.toList());
 		} else {
-			// >> ptpt: 스트림 내부 람다 사용한 경우 역순 정렬 시 Collections로 감싸야 한다.
-			return placeSearchResStream
-				.sorted(Collections.reverseOrder(Comparator.comparingInt(
-					(placeSearchRes) -> requireNonNullElse(
-						redisTemplate.opsForZSet().score(ZSET_KEY, placeSearchRes.getId().toString()), 0.0).intValue()
-				)))
-				.collect(Collectors.toList());
+			return sortByViewScore(placeSearchResStream.collect(Collectors.toList()));
 		}
 
 	}
@@ -329,8 +396,7 @@ public class PlaceServiceImpl implements PlaceService {
 		// 0) 쿼리 형식 : '시도명-시군구명*시군구명'
 		Long memberId = jwtTokenService.getMemberId();
 
-		Member findMember = memberService.findMemberBy(memberId)
-			.orElseThrow(() -> new BaseException(CHECK_USER));
+		MemberContext memberContext = memberService.findMemberContext(memberId);
 
 		// 1) 쿼리 파싱 ( 코드의 개수가 여러개일 수 있음 )
 		String[] splitQuery = query.split("-");
@@ -343,56 +409,27 @@ public class PlaceServiceImpl implements PlaceService {
 			region2Depths.add(splitQuery[1]);
 		}
 
-		List<String> codeList = region2Depths.stream()
-			.map(wrap(region2Depth -> (districtRepository.findByRegion1DepthContainingAndRegion2DepthContaining(
-				region1Depth, region2Depth))
-				.orElseThrow(() -> new BaseException(INVALID_DISTRICT_CODE)).getCode()))
-			.collect(Collectors.toList());
+		// 행정구역은 메모리 디렉터리에서 해석 (없으면 INVALID_DISTRICT_CODE, 여러 개면 SEARCHED_DUPLICATE_REGION)
+		Set<String> codes = region2Depths.stream()
+			.map(region2Depth -> districtDirectory.resolveCode(region1Depth, region2Depth))
+			.collect(Collectors.toCollection(LinkedHashSet::new));
 
-		// 2) 코드에 해당하는 장소 반환
-		List<Place> findPlaces = codeList.stream()
-			.map(
-				code -> placeRepository.findPlacesByDistrictCodeAndStatus(code, USED)
-					.orElseThrow(() -> new BaseException(INVALID_DISTRICT_CODE))
-			)
-			.flatMap(places -> places.stream())
-			.collect(Collectors.toList());
+		// 2) 코드에 해당하는 장소 반환 (IN 쿼리 한 번)
+		List<Place> findPlaces = placeRepository.findPlacesByDistrictCodeInAndStatus(codes, USED);
 
-		Stream<PlaceSearchRes> placeSearchResStream = placesToSearchDTOs(findPlaces, findMember, lat, lng);
+		Stream<PlaceSearchRes> placeSearchResStream = placesToSearchDTOs(findPlaces, memberContext, lat, lng);
 
 		return placeSearchResStream.collect(Collectors.toList());
 	}
 
 	@Override
 	public List<PlaceRankRes> getTop5PlaceRanks() {
+		return placeRankSnapshot.getTopPlaces(null);
+	}
 
-		Set<ZSetOperations.TypedTuple<String>> rankSet = redisTemplate.opsForZSet()
-			.reverseRangeWithScores(ZSET_KEY, 0, 4);
-
-		if (rankSet == null || rankSet.isEmpty()) {
-			return Collections.emptyList();
-		}
-
-		return rankSet.stream()
-			.map(rank -> {
-					Long placeId = Long.parseLong(requireNonNull(rank.getValue()));
-					Place findPlace = placeRepository.findPlaceByIdAndStatus(placeId, USED)
-						.orElseThrow(() -> new BaseException(SEARCH_NOT_FOUND_PLACE));
-
-					return PlaceRankRes.builder()
-						.viewCount(requireNonNull(rank.getScore()).intValue())
-						.placeId(placeId)
-						.name(findPlace.getName())
-						.address(findPlace.getAddress())
-						.placeImageUrl(
-							findPlace.getPlaceImages()
-								.stream()
-								.limit(1)
-								.map(PlaceImage::getImageUrl)
-								.collect(Collectors.joining()))
-						.build();
-				}
-			).collect(Collectors.toList());
+	@Override
+	public List<PlaceRankRes> getTop5PlaceRanks(RankWindow window) {
+		return placeRankSnapshot.getTopPlaces(window);
 	}
 
 	@Override
@@ -401,8 +438,22 @@ public class PlaceServiceImpl implements PlaceService {
 	}
 
 	@Override
-	public List<PlaceTag> searchPlaceTagsBy(String tagName) {
-		return placeTagRepository.findByNameAndStatus(tagName, USED).orElseGet(Collections::emptyList);
+	public List<Place> searchPlacesByFulltext(String keyword, int page, int size) {
+		return placeRepository.searchByFulltext(keyword, toBooleanPhrase(keyword), PageRequest.of(page, size));
+	}
+
+	@Override
+	public List<SearchPlaceRes> searchPlacesByTags(TagQuery tagQuery, int page, int size) {
+		return placeRepository.findSearchPlacesByTags(tagQuery, (long)page * size, size);
+	}
+
+	@Override
+	public List<SearchPlaceRes> findSearchPlacesByIds(List<Long> placeIds) {
+		if (placeIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return placeRepository.findSearchPlacesByIds(placeIds);
 	}
 
 	@Override
@@ -441,20 +492,37 @@ public class PlaceServiceImpl implements PlaceService {
 	// INTERNAL USE
 	// ====================================================================
 
-	// >> ptpt: stream에서의 함수형 인터페이스에 대한 exception 처리 (람다식)
-	private static <T, R> Function<T, R> wrap(ExceptionFunction<T, R> f) {
-		return (T t) -> {
-			try {
-				return f.apply(t);
-			} catch (Exception e) {
-				e.printStackTrace();
-				throw new BaseException(SEARCHED_DUPLICATE_REGION);
-			}
-		};
-	}
+	/**
+	 * 검색 결과 DTO 변환
+	 * 댓글 수/태그/이미지를 장소 목록 단위로 한 번씩만 조회한다. (장소 수와 무관하게 쿼리 3회)
+	 */
+	private Stream<PlaceSearchRes> placesToSearchDTOs(List<Place> placeList, MemberContext memberContext,
+		Double lat, Double lng) {
+
+		if (placeList.isEmpty()) {
+			return Stream.empty();
+		}
+
+		List<Long> placeIds = placeList.stream()
+			.map(Place::getId)
+			.collect(Collectors.toList());
 
-	private Stream<PlaceSearchRes> placesToSearchDTOs(List<Place> placeList, Member member, Double lat, Double
-		lng) {
+		Map<Long, Long> commentCounts = placeRepository.countPlaceCommentsByPlaceIds(placeIds);
+
+		Map<Long, List<PlaceTagRes>> placeTags = placeTagRepository.findPlaceTagsByPlaceIdInAndStatus(placeIds, USED)
+			.stream()
+			.collect(Collectors.groupingBy(PlaceTag::getPlaceId,
+				Collectors.mapping(placeTag -> new PlaceTagRes(placeTag.getId(), placeTag.getName()),
+					Collectors.toList())));
+
+		Map<Long, List<PlaceImageRes>> placeImages = placeImageRepository.findPlaceImagesByPlaceIdInAndStatus(
+				placeIds, USED)
+			.stream()
+			.collect(Collectors.groupingBy(PlaceImage::getPlaceId,
+				Collectors.mapping(placeImage -> PlaceImageRes.builder()
+					.imageId(placeImage.getId())
+					.imageUrl(placeImage.getImageUrl())
+					.build(), Collectors.toList())));
 
 		return placeList.stream()
 			.map(place ->
@@ -462,22 +530,48 @@ public class PlaceServiceImpl implements PlaceService {
 					.id(place.getId())
 					.name(place.getName())
 					.address(place.getAddress())
-					.reviewCount(placeCommentRepository.countByPlaceIdAndStatus(place.getId(), USED))
+					.reviewCount(commentCounts.getOrDefault(place.getId(), 0L))
 					.distance(getDistance(lat, lng, place.getLatitude(), place.getLongitude()))
-					.placeTags(place.getTags().stream().map(placeTag -> new PlaceTagRes(placeTag.getId(),
-						placeTag.getName())).collect(Collectors.toList()))
-					.placeImages(place.getPlaceImages().stream()
-						.map(placeImage -> PlaceImageRes.builder()
-							.imageId(placeImage.getId())
-							.imageUrl(placeImage.getImageUrl())
-							.build())
-						.collect(Collectors.toList()))
-					.isBookmarked(member.getBookmarks()
-						.stream()
-						.anyMatch(bookmark -> bookmark.getPlaceId().equals(place.getId())))
+					.placeTags(placeTags.getOrDefault(place.getId(), Collections.emptyList()))
+					.placeImages(placeImages.getOrDefault(place.getId(), Collections.emptyList()))
+					.isBookmarked(memberContext.isBookmarked(place.getId()))
 					.build());
 	}
 
+	/**
+	 * 조회수(views ZSET) 역순 정렬
+	 * 점수는 요청당 한 번의 파이프라인으로 가져와 로컬에서 정렬한다.
+	 */
+	private List<PlaceSearchRes> sortByViewScore(List<PlaceSearchRes> placeSearchResList) {
+		int size = placeSearchResList.size();
+		if (size < 2) {
+			return placeSearchResList;
+		}
+
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] rawKey = serializer.serialize(ZSET_KEY);
+
+		List<Object> rawScores = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			placeSearchResList.forEach(placeSearchRes ->
+				connection.zSetCommands().zScore(rawKey, serializer.serialize(placeSearchRes.getId().toString())));
+			return null;
+		});
+		redisRoundTrips.record(1);
+
+		// 장소 순서와 같은 인덱스의 점수 배열 (점수 없음 = 0)
+		double[] scores = new double[size];
+		for (int i = 0; i < size; i++) {
+			Object score = rawScores.get(i);
+			scores[i] = score == null ? 0.0 : (Double)score;
+		}
+
+		return IntStream.range(0, size)
+			.boxed()
+			.sorted((i, j) -> Double.compare(scores[j], scores[i]))
+			.map(placeSearchResList::get)
+			.collect(Collectors.toList());
+	}
+
 	/**
 	 * 두 지점간 거리 계산
 	 *
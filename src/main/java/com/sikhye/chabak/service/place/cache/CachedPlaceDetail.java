@@ -0,0 +1,26 @@
+package com.sikhye.chabak.service.place.cache;
+
+import com.sikhye.chabak.service.place.dto.PlaceDetailRes;
+
+import lombok.Getter;
+
+/**
+ * 캐시에 저장하는 장소 상세 정보
+ * 거리(distance)는 요청마다 다르므로 비워두고, 계산에 필요한 장소 좌표를 함께 보관한다.
+ */
+@Getter
+public class CachedPlaceDetail {
+
+	private PlaceDetailRes detail;
+	private Double latitude;
+	private Double longitude;
+
+	public CachedPlaceDetail() {
+	}
+
+	public CachedPlaceDetail(PlaceDetailRes detail, Double latitude, Double longitude) {
+		this.detail = detail;
+		this.latitude = latitude;
+		this.longitude = longitude;
+	}
+}
@@ -0,0 +1,129 @@
+package com.sikhye.chabak.service.place.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 상세 2단계 캐시
+ * L1 : 인스턴스 로컬 Caffeine, L2 : Redis CacheManager(placeDetail)
+ * 변경 시 L2 를 지우고 pub/sub 으로 모든 인스턴스의 L1 을 무효화한다.
+ */
+@Slf4j
+@Component
+public class PlaceDetailCache implements MessageListener {
+
+	public static final String PLACE_DETAIL = "placeDetail";
+	public static final int PLACE_DETAIL_EXPIRE_SEC = 600;
+
+	private static final String INVALIDATE_TOPIC = "place-detail-invalidate";
+	private static final long L1_MAXIMUM_SIZE = 10_000;
+	private static final long L1_EXPIRE_SEC = 60;
+
+	private final CacheManager cacheManager;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final com.github.benmanes.caffeine.cache.Cache<Long, CachedPlaceDetail> localCache = Caffeine.newBuilder()
+		.maximumSize(L1_MAXIMUM_SIZE)
+		.expireAfterWrite(L1_EXPIRE_SEC, TimeUnit.SECONDS)
+		.build();
+
+	public PlaceDetailCache(CacheManager cacheManager, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer) {
+		this.cacheManager = cacheManager;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_TOPIC));
+	}
+
+	/**
+	 * L1 -> L2 -> loader 순으로 조회하고, 조회된 값은 상위 캐시에 채운다.
+	 *
+	 * @param placeId 장소 ID
+	 * @param loader  캐시에 없을 때 DB 에서 읽어오는 함수
+	 * @return 거리가 비어있는 장소 상세
+	 */
+	public CachedPlaceDetail get(Long placeId, Supplier<CachedPlaceDetail> loader) {
+		return localCache.get(placeId, id -> {
+			CachedPlaceDetail cached = getFromRemote(id);
+			if (cached != null) {
+				return cached;
+			}
+
+			CachedPlaceDetail loaded = loader.get();
+			putToRemote(id, loaded);
+			return loaded;
+		});
+	}
+
+	/**
+	 * 장소 상세 무효화 (트랜잭션 커밋 후 호출)
+	 */
+	public void evict(Long placeId) {
+		localCache.invalidate(placeId);
+
+		try {
+			Cache remoteCache = cacheManager.getCache(PLACE_DETAIL);
+			if (remoteCache != null) {
+				remoteCache.evict(placeId);
+			}
+			redisTemplate.convertAndSend(INVALIDATE_TOPIC, placeId.toString());
+		} catch (Exception e) {
+			// L1 은 만료 시간(L1_EXPIRE_SEC) 이후 자연히 갱신된다.
+			log.error(">> [-] place detail cache evict failed : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String placeId = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (placeId != null) {
+			localCache.invalidate(Long.parseLong(placeId));
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// Redis 장애 시에는 캐시 없이 DB 조회로 동작한다.
+	private CachedPlaceDetail getFromRemote(Long placeId) {
+		try {
+			Cache remoteCache = cacheManager.getCache(PLACE_DETAIL);
+			return remoteCache == null ? null : remoteCache.get(placeId, CachedPlaceDetail.class);
+		} catch (Exception e) {
+			log.error(">> [-] place detail cache get failed : {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private void putToRemote(Long placeId, CachedPlaceDetail cached) {
+		try {
+			Cache remoteCache = cacheManager.getCache(PLACE_DETAIL);
+			if (remoteCache != null) {
+				remoteCache.put(placeId, cached);
+			}
+		} catch (Exception e) {
+			log.error(">> [-] place detail cache put failed : {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.sikhye.chabak.service.place.constant;
+
+import java.util.Arrays;
+
+public enum RankWindow {
+	HOUR("1h", 1),
+	DAY("24h", 24),
+	WEEK("7d", 24 * 7);
+
+	public final String label;
+	public final int hours;
+
+	RankWindow(String label, int hours) {
+		this.label = label;
+		this.hours = hours;
+	}
+
+	public static RankWindow fromLabel(String label) {
+		return Arrays.stream(values())
+			.filter(window -> window.label.equalsIgnoreCase(label))
+			.findFirst()
+			.orElseThrow(() -> new IllegalArgumentException("unknown rank window : " + label));
+	}
+}
@@ -0,0 +1,13 @@
+package com.sikhye.chabak.service.place.constant;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+
+@Configuration
+public class RankWindowConverter implements Converter<String, RankWindow> {
+
+	@Override
+	public RankWindow convert(String s) {
+		return RankWindow.fromLabel(s);
+	}
+}
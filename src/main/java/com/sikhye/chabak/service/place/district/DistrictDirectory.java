@@ -0,0 +1,150 @@
+package com.sikhye.chabak.service.place.district;
+
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.place.domain.District;
+import com.sikhye.chabak.service.place.domain.DistrictRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 행정구역(District) 조회용 메모리 디렉터리
+ * 기준 정보라 기동 시 한 번 읽어 불변 맵으로 보관하고, 지역 검색은 SQL 없이 해석한다.
+ * - 코드 -> 행정구역
+ * - 정규화한 "시도|시군구" 이름 -> 행정구역 (완전 일치)
+ * - 시도 -> 소속 시군구 목록 (부분 일치 시 후보 축소)
+ */
+@Slf4j
+@Component
+public class DistrictDirectory {
+
+	private final DistrictRepository districtRepository;
+
+	private volatile Snapshot snapshot;
+
+	public DistrictDirectory(DistrictRepository districtRepository) {
+		this.districtRepository = districtRepository;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void load() {
+		List<District> districts = districtRepository.findAll();
+		snapshot = new Snapshot(districts);
+		log.info(">> [+] district directory loaded : {} districts", districts.size());
+	}
+
+	public Collection<District> getDistricts() {
+		return snapshot().byCode.values();
+	}
+
+	public Optional<District> findByCode(String code) {
+		return Optional.ofNullable(snapshot().byCode.get(code));
+	}
+
+	/**
+	 * 지역명 해석 (기존 findByRegion1DepthContainingAndRegion2DepthContaining 과 같은 부분 일치)
+	 * 정규화한 이름이 정확히 일치하면 그 지역을, 아니면 두 이름을 모두 포함하는 유일한 지역을 반환한다.
+	 *
+	 * @param region1Depth 시도명 (일부)
+	 * @param region2Depth 시군구명 (일부)
+	 * @return 행정구역 코드
+	 */
+	public String resolveCode(String region1Depth, String region2Depth) {
+		Snapshot current = snapshot();
+
+		String normalized1 = normalize(region1Depth);
+		String normalized2 = normalize(region2Depth);
+
+		District exact = current.byName.get(nameKey(normalized1, normalized2));
+		if (exact != null) {
+			return exact.getCode();
+		}
+
+		District found = null;
+		for (Map.Entry<String, List<District>> region1 : current.byRegion1.entrySet()) {
+			if (!region1.getKey().contains(normalized1)) {
+				continue;
+			}
+
+			for (District district : region1.getValue()) {
+				if (!normalize(district.getRegion2Depth()).contains(normalized2)) {
+					continue;
+				}
+				if (found != null) {
+					throw new BaseException(SEARCHED_DUPLICATE_REGION);
+				}
+				found = district;
+			}
+		}
+
+		if (found == null) {
+			throw new BaseException(INVALID_DISTRICT_CODE);
+		}
+
+		return found.getCode();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// 기동 직후(ApplicationReadyEvent 이전) 요청은 그 자리에서 적재한다.
+	private Snapshot snapshot() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			synchronized (this) {
+				if (snapshot == null) {
+					load();
+				}
+				current = snapshot;
+			}
+		}
+		return current;
+	}
+
+	private static String normalize(String name) {
+		return name == null ? "" : name.replaceAll("\\s+", "");
+	}
+
+	private static String nameKey(String normalized1, String normalized2) {
+		return normalized1 + "|" + normalized2;
+	}
+
+	private static final class Snapshot {
+		private final Map<String, District> byCode;
+		private final Map<String, District> byName;
+		private final Map<String, List<District>> byRegion1;
+
+		private Snapshot(List<District> districts) {
+			Map<String, District> codes = new LinkedHashMap<>();
+			Map<String, District> names = new HashMap<>();
+			Map<String, List<District>> region1s = new LinkedHashMap<>();
+
+			for (District district : districts) {
+				String normalized1 = normalize(district.getRegion1Depth());
+				codes.put(district.getCode(), district);
+				names.put(nameKey(normalized1, normalize(district.getRegion2Depth())), district);
+				region1s.computeIfAbsent(normalized1, key -> new ArrayList<>()).add(district);
+			}
+
+			region1s.replaceAll((key, list) -> Collections.unmodifiableList(list));
+			this.byCode = Collections.unmodifiableMap(codes);
+			this.byName = Collections.unmodifiableMap(names);
+			this.byRegion1 = Collections.unmodifiableMap(region1s);
+		}
+	}
+}
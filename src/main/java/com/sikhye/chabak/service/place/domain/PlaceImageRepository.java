@@ -1,5 +1,6 @@
 package com.sikhye.chabak.service.place.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +12,6 @@ public interface PlaceImageRepository extends JpaRepository<PlaceImage, Long> {
 
 	Optional<List<PlaceImage>> findPlaceImagesByPlaceIdAndStatus(Long placeId, BaseStatus status);
 
+	List<PlaceImage> findPlaceImagesByPlaceIdInAndStatus(Collection<Long> placeIds, BaseStatus status);
+
 }
@@ -1,9 +1,13 @@
 package com.sikhye.chabak.service.place.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sikhye.chabak.global.constant.BaseStatus;
 
@@ -13,11 +17,26 @@ public interface PlaceRepository extends JpaRepository<Place, Long>, PlaceReposi
 
 	Optional<Place> findPlaceByIdAndStatus(Long placeId, BaseStatus status);
 
+	List<Place> findPlacesByIdInAndStatus(Collection<Long> placeIds, BaseStatus status);
+
+	List<Place> findPlacesByStatusAndIdGreaterThanOrderByIdAsc(BaseStatus status, Long placeId, Pageable pageable);
+
 	Optional<List<Place>> findPlacesByNameContainingOrAddressContainingAndStatus(String name, String address,
 		BaseStatus status);
 
 	Optional<List<Place>> findPlacesByDistrictCodeAndStatus(String code, BaseStatus status);
 
+	List<Place> findPlacesByDistrictCodeInAndStatus(Collection<String> codes, BaseStatus status);
+
 	Optional<List<Place>> findByNameContainsAndStatus(String name, BaseStatus status);
 
+	// FULLTEXT(ngram) 검색 : 구문(phrase)으로 걸러낸 뒤 자연어 모드 관련도 순 정렬
+	@Query(value = "SELECT * FROM Place p"
+		+ " WHERE MATCH(p.name, p.address) AGAINST(:phrase IN BOOLEAN MODE)"
+		+ " AND p.status = 'USED'"
+		+ " ORDER BY MATCH(p.name, p.address) AGAINST(:keyword IN NATURAL LANGUAGE MODE) DESC, p.id DESC",
+		nativeQuery = true)
+	List<Place> searchByFulltext(@Param("keyword") String keyword, @Param("phrase") String phrase,
+		Pageable pageable);
+
 }
@@ -1,11 +1,32 @@
 package com.sikhye.chabak.service.place.domain;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import com.sikhye.chabak.global.constant.BaseStatus;
 import com.sikhye.chabak.service.place.dto.PlaceAroundRes;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.suggest.PlaceName;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.tag.TagTarget;
 
 public interface PlaceRepositoryCustom {
 
 	Optional<List<PlaceAroundRes>> findPlaceNearbyPoint(Double lat, Double lng, Double radius);
+
+	List<PlaceAroundRes> findPlacePoints();
+
+	Map<Long, Long> countPlaceCommentsByPlaceIds(Collection<Long> placeIds);
+
+	List<SearchPlaceRes> findSearchPlacesByTags(TagQuery tagQuery, long offset, int limit);
+
+	List<SearchPlaceRes> findSearchPlacesByIds(List<Long> placeIds);
+
+	List<TagTarget> findPlaceTagTargets();
+
+	List<Long> findPlaceIdsByStatus(BaseStatus status);
+
+	List<PlaceName> findPlaceNames();
 }
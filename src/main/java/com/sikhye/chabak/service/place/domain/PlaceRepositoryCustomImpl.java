@@ -3,20 +3,38 @@ package com.sikhye.chabak.service.place.domain;
 import static com.querydsl.core.types.dsl.Expressions.*;
 import static com.querydsl.core.types.dsl.MathExpressions.*;
 import static com.sikhye.chabak.service.place.domain.QPlace.*;
+import static com.sikhye.chabak.service.place.domain.QPlaceComment.*;
+import static com.sikhye.chabak.service.place.domain.QPlaceImage.*;
+import static com.sikhye.chabak.service.place.domain.QPlaceTag.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sikhye.chabak.global.constant.BaseStatus;
 import com.sikhye.chabak.service.place.dto.PlaceAroundRes;
+import com.sikhye.chabak.service.place.geo.BoundingBox;
+import com.sikhye.chabak.service.search.constant.TagMatchType;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.suggest.PlaceName;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.tag.TagTarget;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
 
+	// IN 절 하나에 넣을 최대 ID 수
+	private static final int IN_BATCH_SIZE = 1000;
+
 	private final JPAQueryFactory queryFactory;
 
 	//20211216
@@ -45,6 +66,9 @@ public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
 		// Haversine 공식
 		NumberPath<Double> distance = Expressions.numberPath(Double.class, "distance");
 
+		// 반경을 감싸는 사각형으로 먼저 거른다. (idx_place_status_lat_lng 범위 스캔)
+		BoundingBox box = BoundingBox.of(lat, lng, radius);
+
 		Optional<List<PlaceAroundRes>> resultLists = Optional.ofNullable(queryFactory
 			.select(Projections.constructor(PlaceAroundRes.class,
 				place.id,
@@ -59,6 +83,8 @@ public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
 				place.longitude))
 			.from(place)
 			.where(place.status.eq(BaseStatus.USED)
+				.and(place.latitude.between(box.getMinLatitude(), box.getMaxLatitude()))
+				.and(place.longitude.between(box.getMinLongitude(), box.getMaxLongitude()))
 				.and(
 					acos(
 						cos(radians(place.longitude).subtract(radians(asNumber(lng))))
@@ -72,4 +98,174 @@ public class PlaceRepositoryCustomImpl implements PlaceRepositoryCustom {
 		return resultLists;
 	}
 
+	// 좌표 인덱스 적재용 (id, 위도, 경도)
+	@Override
+	public List<PlaceAroundRes> findPlacePoints() {
+		return queryFactory
+			.select(place.id, place.latitude, place.longitude)
+			.from(place)
+			.where(place.status.eq(BaseStatus.USED),
+				place.latitude.isNotNull(),
+				place.longitude.isNotNull())
+			.fetch()
+			.stream()
+			.map(tuple -> PlaceAroundRes.builder()
+				.placeId(tuple.get(place.id))
+				.latitude(tuple.get(place.latitude))
+				.longitude(tuple.get(place.longitude))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	// 장소별 댓글 수 (group by 한 번으로 조회)
+	@Override
+	public Map<Long, Long> countPlaceCommentsByPlaceIds(Collection<Long> placeIds) {
+		return queryFactory
+			.select(placeComment.placeId, placeComment.id.count())
+			.from(placeComment)
+			.where(placeComment.placeId.in(placeIds),
+				placeComment.status.eq(BaseStatus.USED))
+			.groupBy(placeComment.placeId)
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(
+				tuple -> tuple.get(placeComment.placeId),
+				tuple -> tuple.get(placeComment.id.count())));
+	}
+
+	// 태그 검색 (태그-장소 조인 한 번 + 대표 이미지 조회 한 번)
+	@Override
+	public List<SearchPlaceRes> findSearchPlacesByTags(TagQuery tagQuery, long offset, int limit) {
+		QPlaceTag excludedTag = new QPlaceTag("excludedTag");
+
+		JPAQuery<Tuple> query = queryFactory
+			.select(place.id, place.name, place.address)
+			.from(placeTag)
+			.join(place).on(place.id.eq(placeTag.placeId))
+			.where(placeTag.name.in(tagQuery.getTags()),
+				placeTag.status.eq(BaseStatus.USED),
+				place.status.eq(BaseStatus.USED))
+			// 여러 태그가 일치해도 장소는 한 번만 (나머지 컬럼은 PK 에 함수 종속)
+			.groupBy(place.id);
+
+		if (!tagQuery.getExcludedTags().isEmpty()) {
+			query.where(place.id.notIn(JPAExpressions
+				.select(excludedTag.placeId)
+				.from(excludedTag)
+				.where(excludedTag.name.in(tagQuery.getExcludedTags()),
+					excludedTag.status.eq(BaseStatus.USED))));
+		}
+
+		if (tagQuery.getMatchType() == TagMatchType.ALL) {
+			query.having(placeTag.name.countDistinct().eq((long)tagQuery.getTags().size()));
+		}
+
+		return toSearchPlaces(query
+			.orderBy(place.id.desc())
+			.offset(offset)
+			.limit(limit)
+			.fetch());
+	}
+
+	// 전달받은 ID 순서대로 반환
+	@Override
+	public List<SearchPlaceRes> findSearchPlacesByIds(List<Long> placeIds) {
+		Map<Long, SearchPlaceRes> searchPlaces = new HashMap<>();
+
+		for (List<Long> ids : partition(placeIds)) {
+			toSearchPlaces(queryFactory
+				.select(place.id, place.name, place.address)
+				.from(place)
+				.where(place.id.in(ids),
+					place.status.eq(BaseStatus.USED))
+				.fetch())
+				.forEach(searchPlace -> searchPlaces.put(searchPlace.getId(), searchPlace));
+		}
+
+		return placeIds.stream()
+			.map(searchPlaces::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	// 태그 인덱스 적재용 (USED 장소의 USED 태그)
+	@Override
+	public List<TagTarget> findPlaceTagTargets() {
+		return queryFactory
+			.select(Projections.constructor(TagTarget.class, placeTag.name, placeTag.placeId))
+			.from(placeTag)
+			.join(place).on(place.id.eq(placeTag.placeId))
+			.where(placeTag.status.eq(BaseStatus.USED),
+				place.status.eq(BaseStatus.USED))
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findPlaceIdsByStatus(BaseStatus status) {
+		return queryFactory
+			.select(place.id)
+			.from(place)
+			.where(place.status.eq(status))
+			.fetch();
+	}
+
+	// 자동완성 적재용 (USED 장소의 이름, 행정구역 코드)
+	@Override
+	public List<PlaceName> findPlaceNames() {
+		return queryFactory
+			.select(Projections.constructor(PlaceName.class, place.id, place.name, place.districtCode))
+			.from(place)
+			.where(place.status.eq(BaseStatus.USED))
+			.fetch();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private List<SearchPlaceRes> toSearchPlaces(List<Tuple> rows) {
+		Map<Long, String> imageUrls = findFirstImageUrls(
+			rows.stream().map(row -> row.get(place.id)).collect(Collectors.toList()));
+
+		return rows.stream()
+			.map(row -> SearchPlaceRes.builder()
+				.id(row.get(place.id))
+				.name(row.get(place.name))
+				.address(row.get(place.address))
+				.imageUrl(imageUrls.getOrDefault(row.get(place.id), ""))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	// 장소별 첫 번째 이미지 (placeId -> imageUrl)
+	private Map<Long, String> findFirstImageUrls(List<Long> placeIds) {
+		QPlaceImage firstImage = new QPlaceImage("firstImage");
+		Map<Long, String> imageUrls = new HashMap<>();
+
+		for (List<Long> ids : partition(placeIds)) {
+			queryFactory
+				.select(placeImage.placeId, placeImage.imageUrl)
+				.from(placeImage)
+				.where(placeImage.id.in(JPAExpressions
+					.select(firstImage.id.min())
+					.from(firstImage)
+					.where(firstImage.placeId.in(ids),
+						firstImage.status.eq(BaseStatus.USED))
+					.groupBy(firstImage.placeId)))
+				.fetch()
+				.forEach(row -> imageUrls.put(row.get(placeImage.placeId), row.get(placeImage.imageUrl)));
+		}
+
+		return imageUrls;
+	}
+
+	private static List<List<Long>> partition(List<Long> ids) {
+		List<List<Long>> batches = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+			batches.add(ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size())));
+		}
+
+		return batches;
+	}
+
 }
@@ -1,5 +1,6 @@
 package com.sikhye.chabak.service.place.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ public interface PlaceTagRepository extends JpaRepository<PlaceTag, Long> {
 	Optional<PlaceTag> findPlaceTagByIdAndStatus(Long placeTagId, BaseStatus status);
 
 	Optional<List<PlaceTag>> findByNameAndStatus(String tagName, BaseStatus status);
+
+	List<PlaceTag> findPlaceTagsByPlaceIdInAndStatus(Collection<Long> placeIds, BaseStatus status);
 }
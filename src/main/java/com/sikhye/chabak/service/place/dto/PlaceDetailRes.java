@@ -42,4 +42,10 @@ public class PlaceDetailRes {
 		this.tagNames = tagNames;
 		this.commentResList = commentResList;
 	}
+
+	// 캐시된 상세 정보에 요청별 거리를 채운 사본
+	public PlaceDetailRes withDistance(Double distance) {
+		return new PlaceDetailRes(id, name, address, reviewCount, imageCount, phoneNumber, distance, url,
+			placeImageUrls, tagNames, commentResList);
+	}
 }
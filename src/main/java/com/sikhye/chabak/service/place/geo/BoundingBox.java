@@ -0,0 +1,36 @@
+package com.sikhye.chabak.service.place.geo;
+
+import lombok.Getter;
+
+/**
+ * 중심 좌표와 반경(km)을 감싸는 위경도 사각형
+ * 정확한 거리 계산 전에 후보를 줄이는 용도
+ */
+@Getter
+public class BoundingBox {
+
+	public static final double EARTH_RADIUS_KM = 6371.0;
+	private static final double KM_PER_LAT_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+	private final double minLatitude;
+	private final double maxLatitude;
+	private final double minLongitude;
+	private final double maxLongitude;
+
+	private BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+		this.minLatitude = minLatitude;
+		this.maxLatitude = maxLatitude;
+		this.minLongitude = minLongitude;
+		this.maxLongitude = maxLongitude;
+	}
+
+	public static BoundingBox of(double lat, double lng, double radius) {
+		double latDelta = radius / KM_PER_LAT_DEGREE;
+
+		// 경도 1도의 거리는 위도가 높을수록 짧아지므로 사각형에서 극에 가까운 쪽 위도를 기준으로 한다.
+		double cosLat = Math.cos(Math.toRadians(Math.min(Math.abs(lat) + latDelta, 90.0)));
+		double lngDelta = cosLat <= 0.0 ? 180.0 : Math.min(latDelta / cosLat, 180.0);
+
+		return new BoundingBox(lat - latDelta, lat + latDelta, lng - lngDelta, lng + lngDelta);
+	}
+}
@@ -0,0 +1,271 @@
+package com.sikhye.chabak.service.place.geo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.place.domain.PlaceRepository;
+import com.sikhye.chabak.service.place.dto.PlaceAroundRes;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 좌표 격자(grid) 인덱스
+ * 위경도를 CELL_SIZE 단위 셀로 나누어 보관하고, 반경 조회 시 후보 셀의 장소만 거리 계산한다.
+ * 기동 시와 주기적으로(place.grid.rebuild-ms) 전체 적재하고, 좌표 변경/삭제는 pub/sub 으로 다른 인스턴스에도 반영한다.
+ */
+@Slf4j
+@Component
+public class PlaceGridIndex implements MessageListener {
+
+	// 셀 한 변의 크기 (위도 0.02도 ≒ 2.2km)
+	private static final double CELL_SIZE = 0.02;
+
+	private static final String UPDATE_TOPIC = "place-grid-index";
+	private static final String PUT = "PUT";
+	private static final String REMOVE = "REMOVE";
+
+	// 자신이 보낸 메시지는 이미 반영했으므로 건너뛴다.
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final PlaceRepository placeRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	// cellKey -> (placeId -> 좌표)
+	private final Map<Long, Map<Long, PlacePoint>> cells = new ConcurrentHashMap<>();
+	// placeId -> 좌표 (셀 이동/삭제용)
+	private final Map<Long, PlacePoint> points = new ConcurrentHashMap<>();
+
+	private volatile boolean ready = false;
+
+	public PlaceGridIndex(PlaceRepository placeRepository, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer) {
+		this.placeRepository = placeRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(UPDATE_TOPIC));
+	}
+
+	// 주기적 재적재는 변경 알림을 놓친 경우의 보정용
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${place.grid.rebuild-ms:3600000}",
+		initialDelayString = "${place.grid.rebuild-ms:3600000}")
+	public synchronized void rebuild() {
+		ready = false;
+		cells.clear();
+		points.clear();
+
+		try {
+			List<PlaceAroundRes> placePoints = placeRepository.findPlacePoints();
+			placePoints.forEach(point -> putLocal(point.getPlaceId(), point.getLatitude(), point.getLongitude()));
+		} catch (Exception e) {
+			// ready 가 false 인 동안 반경 조회는 DB 로 처리된다.
+			log.error(">> [-] place grid index rebuild failed : {}", e.getMessage());
+			return;
+		}
+
+		ready = true;
+		log.info(">> [+] place grid index loaded : {} places, {} cells", points.size(), cells.size());
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public void put(Long placeId, Double latitude, Double longitude) {
+		putLocal(placeId, latitude, longitude);
+		publish(PUT + ":" + placeId + ":" + latitude + ":" + longitude);
+	}
+
+	public void remove(Long placeId) {
+		removeLocal(placeId);
+		publish(REMOVE + ":" + placeId);
+	}
+
+	// 다른 인스턴스의 변경 알림 (PUT:{placeId}:{lat}:{lng}:{instanceId}, REMOVE:{placeId}:{instanceId})
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+
+		String[] parts = body.split(":");
+		if (instanceId.equals(parts[parts.length - 1])) {
+			return;
+		}
+
+		try {
+			if (PUT.equals(parts[0]) && parts.length == 5) {
+				putLocal(Long.parseLong(parts[1]), parseDouble(parts[2]), parseDouble(parts[3]));
+			} else if (REMOVE.equals(parts[0]) && parts.length == 3) {
+				removeLocal(Long.parseLong(parts[1]));
+			}
+		} catch (NumberFormatException e) {
+			log.error(">> [-] place grid index update failed : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 반경 내 장소 조회
+	 *
+	 * @param lat    현재 위도
+	 * @param lng    현재 경도
+	 * @param radius km단위 반경
+	 * @return 거리순으로 정렬된 장소 리스트
+	 */
+	public List<PlaceAroundRes> findNearby(double lat, double lng, double radius) {
+		if (radius < 0) {
+			return Collections.emptyList();
+		}
+
+		BoundingBox box = BoundingBox.of(lat, lng, radius);
+
+		int minLatCell = cellOf(box.getMinLatitude());
+		int maxLatCell = cellOf(box.getMaxLatitude());
+		int minLngCell = cellOf(box.getMinLongitude());
+		int maxLngCell = cellOf(box.getMaxLongitude());
+
+		long candidateCells = (long)(maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+		List<PlaceAroundRes> results = new ArrayList<>();
+
+		// 후보 셀이 실제 채워진 셀보다 많으면 채워진 셀을 순회하는 편이 빠르다.
+		if (candidateCells > cells.size()) {
+			cells.forEach((cellKey, cell) -> {
+				int latCell = (int)(cellKey >> 32);
+				int lngCell = (int)(long)cellKey;
+				if (latCell >= minLatCell && latCell <= maxLatCell && lngCell >= minLngCell && lngCell <= maxLngCell) {
+					collect(cell, lat, lng, radius, results);
+				}
+			});
+		} else {
+			for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+				for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+					Map<Long, PlacePoint> cell = cells.get(cellKey(latCell, lngCell));
+					if (cell != null) {
+						collect(cell, lat, lng, radius, results);
+					}
+				}
+			}
+		}
+
+		results.sort(Comparator.comparingDouble(PlaceAroundRes::getDistance));
+		return results;
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void putLocal(Long placeId, Double latitude, Double longitude) {
+		removeLocal(placeId);
+
+		if (latitude == null || longitude == null) {
+			return;
+		}
+
+		PlacePoint point = new PlacePoint(placeId, latitude, longitude);
+		points.put(placeId, point);
+		cells.computeIfAbsent(point.cellKey, key -> new ConcurrentHashMap<>()).put(placeId, point);
+	}
+
+	private void removeLocal(Long placeId) {
+		PlacePoint point = points.remove(placeId);
+		if (point == null) {
+			return;
+		}
+
+		cells.computeIfPresent(point.cellKey, (key, cell) -> {
+			cell.remove(placeId);
+			return cell.isEmpty() ? null : cell;
+		});
+	}
+
+	private void publish(String update) {
+		try {
+			redisTemplate.convertAndSend(UPDATE_TOPIC, update + ":" + instanceId);
+		} catch (Exception e) {
+			// 다른 인스턴스는 다음 주기 재적재(place.grid.rebuild-ms) 때 반영된다.
+			log.error(">> [-] place grid index publish failed : {}", e.getMessage());
+		}
+	}
+
+	private static Double parseDouble(String value) {
+		return "null".equals(value) ? null : Double.valueOf(value);
+	}
+
+	private static void collect(Map<Long, PlacePoint> cell, double lat, double lng, double radius,
+		List<PlaceAroundRes> results) {
+
+		double srcLatRad = Math.toRadians(lat);
+		double sinSrcLat = Math.sin(srcLatRad);
+		double cosSrcLat = Math.cos(srcLatRad);
+		double srcLngRad = Math.toRadians(lng);
+
+		for (PlacePoint point : cell.values()) {
+			// findPlaceNearbyPoint 와 동일한 구면 코사인 법칙
+			double cosAngle = Math.cos(point.lngRad - srcLngRad) * cosSrcLat * point.cosLat
+				+ sinSrcLat * point.sinLat;
+			double distance = Math.acos(Math.max(-1.0, Math.min(1.0, cosAngle))) * BoundingBox.EARTH_RADIUS_KM;
+
+			if (distance <= radius) {
+				results.add(PlaceAroundRes.builder()
+					.placeId(point.placeId)
+					.distance(Math.round(distance * 1000) / 1000.0)
+					.latitude(point.latitude)
+					.longitude(point.longitude)
+					.build());
+			}
+		}
+	}
+
+	private static int cellOf(double degree) {
+		return (int)Math.floor(degree / CELL_SIZE);
+	}
+
+	private static long cellKey(int latCell, int lngCell) {
+		return ((long)latCell << 32) | (lngCell & 0xFFFFFFFFL);
+	}
+
+	private static final class PlacePoint {
+		private final Long placeId;
+		private final double latitude;
+		private final double longitude;
+		private final double sinLat;
+		private final double cosLat;
+		private final double lngRad;
+		private final long cellKey;
+
+		private PlacePoint(Long placeId, double latitude, double longitude) {
+			this.placeId = placeId;
+			this.latitude = latitude;
+			this.longitude = longitude;
+			this.sinLat = Math.sin(Math.toRadians(latitude));
+			this.cosLat = Math.cos(Math.toRadians(latitude));
+			this.lngRad = Math.toRadians(longitude);
+			this.cellKey = cellKey(cellOf(latitude), cellOf(longitude));
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package com.sikhye.chabak.service.place.view;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.place.constant.RankWindow;
+import com.sikhye.chabak.service.place.domain.Place;
+import com.sikhye.chabak.service.place.domain.PlaceImage;
+import com.sikhye.chabak.service.place.domain.PlaceImageRepository;
+import com.sikhye.chabak.service.place.domain.PlaceRepository;
+import com.sikhye.chabak.service.place.dto.PlaceRankRes;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 랭킹 스냅샷
+ * 랭킹 응답(PlaceRankRes)을 미리 만들어 메모리에 두고, 조회 요청은 DB/Redis 접근 없이 스냅샷을 반환한다.
+ * 주기적으로 Redis 랭킹을 다시 읽으며, 새로 랭킹에 들어온 장소만 DB에서 한 번에 조회한다.
+ * 장소가 변경/삭제되면 pub/sub 으로 모든 인스턴스의 스냅샷에서 해당 장소를 내린다.
+ */
+@Slf4j
+@Component
+public class PlaceRankSnapshot implements MessageListener {
+
+	public static final int RANK_SIZE = 5;
+
+	// 삭제된 장소를 제외하고도 RANK_SIZE 를 채울 수 있도록 여유 있게 읽는다.
+	private static final int FETCH_SIZE = RANK_SIZE * 2;
+
+	// 장소 정보(이름, 주소, 대표 이미지)를 다시 조회하는 주기
+	private static final long PLACE_INFO_TTL_MS = TimeUnit.MINUTES.toMillis(10);
+
+	private static final String ALL_TIME = "all";
+	private static final String EVICT_TOPIC = "place-rank-evict";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final PlaceViewRanking placeViewRanking;
+	private final PlaceRepository placeRepository;
+	private final PlaceImageRepository placeImageRepository;
+
+	// 기간(label) -> 랭킹, 갱신 시 통째로 교체한다.
+	private volatile Map<String, List<PlaceRankRes>> snapshots;
+
+	// placeId -> 장소 정보 (랭킹에 있는 장소만 유지)
+	private final Map<Long, PlaceInfo> placeInfos = new ConcurrentHashMap<>();
+
+	public PlaceRankSnapshot(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer, PlaceViewRanking placeViewRanking,
+		PlaceRepository placeRepository, PlaceImageRepository placeImageRepository) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.placeViewRanking = placeViewRanking;
+		this.placeRepository = placeRepository;
+		this.placeImageRepository = placeImageRepository;
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_TOPIC));
+	}
+
+	/**
+	 * 랭킹 조회
+	 *
+	 * @param window 집계 기간 (null 이면 전체 기간)
+	 * @return 조회수 역순 상위 RANK_SIZE 개 장소
+	 */
+	public List<PlaceRankRes> getTopPlaces(RankWindow window) {
+		Map<String, List<PlaceRankRes>> current = snapshots;
+		if (current == null) {
+			refresh();
+			current = snapshots;
+		}
+
+		return current.getOrDefault(keyOf(window), Collections.emptyList());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${place.rank.snapshot-refresh-ms:5000}")
+	public synchronized void refresh() {
+		try {
+			Map<String, Set<ZSetOperations.TypedTuple<String>>> rankSets = new LinkedHashMap<>();
+			rankSets.put(ALL_TIME,
+				redisTemplate.opsForZSet().reverseRangeWithScores(PlaceViewCounter.VIEWS_KEY, 0, FETCH_SIZE - 1));
+			for (RankWindow window : RankWindow.values()) {
+				rankSets.put(window.label, placeViewRanking.findTopPlaces(window, FETCH_SIZE));
+			}
+
+			Set<Long> rankedPlaceIds = rankSets.values().stream()
+				.filter(rankSet -> rankSet != null)
+				.flatMap(Set::stream)
+				.map(rank -> Long.parseLong(rank.getValue()))
+				.collect(Collectors.toSet());
+
+			placeInfos.keySet().retainAll(rankedPlaceIds);
+			loadPlaceInfos(rankedPlaceIds);
+
+			Map<String, List<PlaceRankRes>> next = new HashMap<>();
+			rankSets.forEach((key, rankSet) -> next.put(key, toPlaceRanks(rankSet)));
+			snapshots = next;
+		} catch (Exception e) {
+			// 갱신에 실패하면 이전 스냅샷을 그대로 사용한다.
+			log.error(">> [-] place rank snapshot refresh failed : {}", e.getMessage());
+			if (snapshots == null) {
+				snapshots = Collections.emptyMap();
+			}
+		}
+	}
+
+	/**
+	 * 변경/삭제된 장소를 모든 인스턴스의 스냅샷에서 즉시 내린다. (트랜잭션 커밋 후 호출)
+	 * 장소 정보는 다음 갱신 때 DB 에서 다시 읽으므로, 남아 있는 장소는 새 정보로 돌아오고 삭제된 장소는 제외된다.
+	 */
+	public void evict(Long placeId) {
+		evictLocal(placeId);
+
+		try {
+			redisTemplate.convertAndSend(EVICT_TOPIC, placeId.toString());
+		} catch (Exception e) {
+			// 다른 인스턴스는 장소 정보 만료(PLACE_INFO_TTL_MS) 이후 반영된다.
+			log.error(">> [-] place rank snapshot evict publish failed : {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String placeId = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (placeId != null) {
+			evictLocal(Long.parseLong(placeId));
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void evictLocal(Long placeId) {
+		placeInfos.remove(placeId);
+
+		Map<String, List<PlaceRankRes>> current = snapshots;
+		if (current == null) {
+			return;
+		}
+
+		Map<String, List<PlaceRankRes>> next = new HashMap<>();
+		current.forEach((key, ranks) -> next.put(key, ranks.stream()
+			.filter(rank -> !rank.getPlaceId().equals(placeId))
+			.collect(Collectors.toList())));
+		snapshots = next;
+	}
+
+	// 정보가 없거나 오래된 장소만 IN 쿼리로 조회
+	private void loadPlaceInfos(Set<Long> rankedPlaceIds) {
+		long now = System.currentTimeMillis();
+		Set<Long> targetIds = rankedPlaceIds.stream()
+			.filter(placeId -> {
+				PlaceInfo info = placeInfos.get(placeId);
+				return info == null || now - info.loadedAt > PLACE_INFO_TTL_MS;
+			})
+			.collect(Collectors.toSet());
+
+		if (targetIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, String> firstImageUrls = placeImageRepository.findPlaceImagesByPlaceIdInAndStatus(targetIds, USED)
+			.stream()
+			.sorted(Comparator.comparing(PlaceImage::getId))
+			.collect(Collectors.toMap(PlaceImage::getPlaceId, PlaceImage::getImageUrl, (first, second) -> first));
+
+		Set<Long> missingIds = new HashSet<>(targetIds);
+		for (Place place : placeRepository.findPlacesByIdInAndStatus(targetIds, USED)) {
+			placeInfos.put(place.getId(), new PlaceInfo(place.getName(), place.getAddress(),
+				firstImageUrls.getOrDefault(place.getId(), ""), now));
+			missingIds.remove(place.getId());
+		}
+
+		// 삭제되었거나 존재하지 않는 장소는 랭킹에서 제외
+		missingIds.forEach(placeId -> placeInfos.put(placeId, PlaceInfo.DELETED));
+	}
+
+	private List<PlaceRankRes> toPlaceRanks(Set<ZSetOperations.TypedTuple<String>> rankSet) {
+		if (rankSet == null || rankSet.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return rankSet.stream()
+			.map(rank -> {
+				Long placeId = Long.parseLong(rank.getValue());
+				PlaceInfo info = placeInfos.getOrDefault(placeId, PlaceInfo.DELETED);
+				if (info == PlaceInfo.DELETED) {
+					return null;
+				}
+
+				return PlaceRankRes.builder()
+					.viewCount(rank.getScore() == null ? 0 : rank.getScore().intValue())
+					.placeId(placeId)
+					.name(info.name)
+					.address(info.address)
+					.placeImageUrl(info.imageUrl)
+					.build();
+			})
+			.filter(rank -> rank != null)
+			.limit(RANK_SIZE)
+			.collect(Collectors.toList());
+	}
+
+	private static String keyOf(RankWindow window) {
+		return window == null ? ALL_TIME : window.label;
+	}
+
+	private static final class PlaceInfo {
+		private static final PlaceInfo DELETED = new PlaceInfo(null, null, null, Long.MAX_VALUE);
+
+		private final String name;
+		private final String address;
+		private final String imageUrl;
+		private final long loadedAt;
+
+		private PlaceInfo(String name, String address, String imageUrl, long loadedAt) {
+			this.name = name;
+			this.address = address;
+			this.imageUrl = imageUrl;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
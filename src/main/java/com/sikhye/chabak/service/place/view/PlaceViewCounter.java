@@ -0,0 +1,122 @@
+package com.sikhye.chabak.service.place.view;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 조회수 write-behind 카운터
+ * 요청 스레드에서는 메모리(LongAdder)에만 누적하고, 주기적으로 views ZSET 에 파이프라인으로 반영한다.
+ */
+@Slf4j
+@Component
+public class PlaceViewCounter {
+
+	public static final String VIEWS_KEY = "views";
+
+	// 파이프라인 한 번에 보낼 ZINCRBY 개수
+	private static final int FLUSH_BATCH_SIZE = 500;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long shutdownFlushTimeoutMs;
+
+	private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+	public PlaceViewCounter(RedisTemplate<String, String> redisTemplate,
+		@Value("${place.view.shutdown-flush-timeout-ms:3000}") long shutdownFlushTimeoutMs) {
+		this.redisTemplate = redisTemplate;
+		this.shutdownFlushTimeoutMs = shutdownFlushTimeoutMs;
+	}
+
+	public void increment(Long placeId) {
+		pendingViews.computeIfAbsent(placeId, id -> new LongAdder()).increment();
+	}
+
+	@Scheduled(fixedDelayString = "${place.view.flush-interval-ms:1000}")
+	public void flush() {
+		flush(Long.MAX_VALUE);
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		long deadline = System.currentTimeMillis() + shutdownFlushTimeoutMs;
+		flush(deadline);
+
+		long dropped = pendingViews.values().stream().mapToLong(LongAdder::sum).sum();
+		if (dropped > 0) {
+			log.warn(">> [-] shutdown flush timeout, dropped {} place views", dropped);
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void flush(long deadline) {
+		List<Long> placeIds = new ArrayList<>(FLUSH_BATCH_SIZE);
+		List<Long> deltas = new ArrayList<>(FLUSH_BATCH_SIZE);
+
+		for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+			// 합산 이후 들어온 증가분은 LongAdder 에 남아 다음 주기에 반영된다.
+			long delta = entry.getValue().sumThenReset();
+			if (delta == 0) {
+				continue;
+			}
+
+			placeIds.add(entry.getKey());
+			deltas.add(delta);
+
+			if (placeIds.size() == FLUSH_BATCH_SIZE) {
+				if (!writeBatch(placeIds, deltas) || System.currentTimeMillis() > deadline) {
+					return;
+				}
+				placeIds.clear();
+				deltas.clear();
+			}
+		}
+
+		if (!placeIds.isEmpty()) {
+			writeBatch(placeIds, deltas);
+		}
+	}
+
+	private boolean writeBatch(List<Long> placeIds, List<Long> deltas) {
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		byte[] rawKey = serializer.serialize(VIEWS_KEY);
+		byte[] rawBucketKey = serializer.serialize(PlaceViewRanking.currentBucketKey());
+
+		try {
+			// 전체 누적(views) + 기간별 랭킹용 시간 버킷
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				for (int i = 0; i < placeIds.size(); i++) {
+					byte[] rawPlaceId = serializer.serialize(placeIds.get(i).toString());
+					connection.zSetCommands().zIncrBy(rawKey, deltas.get(i), rawPlaceId);
+					connection.zSetCommands().zIncrBy(rawBucketKey, deltas.get(i), rawPlaceId);
+				}
+				connection.keyCommands().expire(rawBucketKey, PlaceViewRanking.bucketTtlSeconds());
+				return null;
+			});
+			return true;
+		} catch (Exception e) {
+			// 반영 실패 시 다음 주기에 다시 시도하도록 되돌린다.
+			log.error(">> [-] place view flush failed : {}", e.getMessage());
+			for (int i = 0; i < placeIds.size(); i++) {
+				pendingViews.computeIfAbsent(placeIds.get(i), id -> new LongAdder()).add(deltas.get(i));
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.sikhye.chabak.service.place.view;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.place.constant.RankWindow;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기간별 장소 랭킹
+ * 조회수를 1시간 단위 ZSET(views:h:{epochHour})에 나누어 쌓고,
+ * 조회 시 기간에 해당하는 버킷을 ZUNIONSTORE 로 합쳐 짧게 캐시한다.
+ *
+ * 기간은 현재 시각 기준 최근 N시간의 슬라이딩 윈도우다.
+ * 진행 중인 현재 버킷과 직전 N-1개의 완료된 버킷을 그대로 더하고,
+ * 윈도우 시작 지점이 걸친 N시간 전 버킷은 윈도우에 남은 비율(1 - 현재 시의 경과 분/60)만큼만 더한다.
+ * (정시 직후에도 집계 기간이 1시간 가까이 짧아지지 않도록)
+ */
+@Slf4j
+@Component
+public class PlaceViewRanking {
+
+	private static final String BUCKET_KEY_PREFIX = "views:h:";
+	private static final String MERGED_KEY_PREFIX = "views:rank:";
+
+	// 가장 긴 기간(7일) + 부분 반영되는 N시간 전 버킷 1시간 + 여유 1시간
+	private static final long BUCKET_TTL_HOURS = RankWindow.WEEK.hours + 2;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long mergedTtlSec;
+	private final double decayHalfLifeHours;
+
+	public PlaceViewRanking(RedisTemplate<String, String> redisTemplate,
+		@Value("${place.rank.merged-ttl-sec:30}") long mergedTtlSec,
+		@Value("${place.rank.decay-half-life-hours:0}") double decayHalfLifeHours) {
+		this.redisTemplate = redisTemplate;
+		this.mergedTtlSec = mergedTtlSec;
+		this.decayHalfLifeHours = decayHalfLifeHours;
+	}
+
+	public static String currentBucketKey() {
+		return BUCKET_KEY_PREFIX + currentEpochHour();
+	}
+
+	public static long bucketTtlSeconds() {
+		return TimeUnit.HOURS.toSeconds(BUCKET_TTL_HOURS);
+	}
+
+	/**
+	 * 기간 내 조회수 상위 장소
+	 *
+	 * @param window 집계 기간
+	 * @param count  조회할 개수
+	 * @return 점수 역순 (placeId, 조회수)
+	 */
+	public Set<ZSetOperations.TypedTuple<String>> findTopPlaces(RankWindow window, int count) {
+		long nowMillis = System.currentTimeMillis();
+		long currentHour = TimeUnit.MILLISECONDS.toHours(nowMillis);
+		String mergedKey = MERGED_KEY_PREFIX + window.label + ":" + currentHour;
+
+		if (!Boolean.TRUE.equals(redisTemplate.hasKey(mergedKey))) {
+			merge(window, nowMillis, mergedKey);
+		}
+
+		Set<ZSetOperations.TypedTuple<String>> topPlaces = redisTemplate.opsForZSet()
+			.reverseRangeWithScores(mergedKey, 0, count - 1);
+
+		return topPlaces == null ? Collections.emptySet() : topPlaces;
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// 병합 결과는 mergedTtlSec 동안 캐시되므로 부분 버킷의 비율도 그만큼만 늦게 반영된다.
+	private void merge(RankWindow window, long nowMillis, String mergedKey) {
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+
+		long currentHour = TimeUnit.MILLISECONDS.toHours(nowMillis);
+		double elapsedRatio = (double)(nowMillis - TimeUnit.HOURS.toMillis(currentHour)) / TimeUnit.HOURS.toMillis(1);
+
+		// age 0(진행 중) ~ window.hours - 1 은 전부, age window.hours 는 윈도우에 걸친 만큼만
+		byte[][] bucketKeys = new byte[window.hours + 1][];
+		double[] weights = new double[window.hours + 1];
+		for (int age = 0; age <= window.hours; age++) {
+			bucketKeys[age] = serializer.serialize(BUCKET_KEY_PREFIX + (currentHour - age));
+			weights[age] = decayWeight(age);
+		}
+		weights[window.hours] *= 1 - elapsedRatio;
+
+		byte[] rawMergedKey = serializer.serialize(mergedKey);
+
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			connection.zSetCommands().zUnionStore(rawMergedKey, RedisZSetCommands.Aggregate.SUM,
+				RedisZSetCommands.Weights.of(weights), bucketKeys);
+			connection.keyCommands().expire(rawMergedKey, mergedTtlSec);
+			return null;
+		});
+	}
+
+	// 반감기가 설정된 경우 오래된 버킷일수록 가중치를 낮춘다.
+	private double decayWeight(int ageHours) {
+		if (decayHalfLifeHours <= 0) {
+			return 1.0;
+		}
+
+		return Math.pow(0.5, ageHours / decayHalfLifeHours);
+	}
+
+	private static long currentEpochHour() {
+		return TimeUnit.MILLISECONDS.toHours(System.currentTimeMillis());
+	}
+}
@@ -6,18 +6,21 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sikhye.chabak.service.post.domain.Posting;
-import com.sikhye.chabak.service.post.domain.PostingTag;
 import com.sikhye.chabak.service.post.dto.PostingCommentReq;
 import com.sikhye.chabak.service.post.dto.PostingCommentRes;
 import com.sikhye.chabak.service.post.dto.PostingDetailRes;
 import com.sikhye.chabak.service.post.dto.PostingEditReq;
+import com.sikhye.chabak.service.post.dto.PostingFeedRes;
 import com.sikhye.chabak.service.post.dto.PostingRecentRes;
 import com.sikhye.chabak.service.post.dto.PostingReq;
 import com.sikhye.chabak.service.post.dto.PostingRes;
 import com.sikhye.chabak.service.post.dto.PostingTagReq;
 import com.sikhye.chabak.service.post.dto.PostingTagRes;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
 
 public interface PostingService {
 
@@ -33,6 +36,15 @@ public interface PostingService {
 	// 01-2. 포스트 전체 조회 API (페이징 이용 X)
 	List<PostingRes> findPosts();
 
+	// 01-3. 포스트 피드 조회 API (커서 페이징)
+	PostingFeedRes findPostFeed(String after, int limit);
+
+	// 01-4. 포스트 전체 조회 API (NDJSON 스트리밍)
+	StreamingResponseBody streamPosts();
+
+	// 01-5. 포스트 내보내기 API (관리자, NDJSON 스트리밍)
+	StreamingResponseBody exportPosts();
+
 	// 02. 본인 작성한 포스팅 조회 API (페이징 이용, jwt)
 	List<PostingRes> findMemberPosts();
 
@@ -96,7 +108,11 @@ public interface PostingService {
 	// 검색 전용
 	List<Posting> searchPostsBy(String keyword);
 
-	List<PostingTag> searchPostTagsBy(String tagName);
+	List<Posting> searchPostsByFulltext(String keyword, int page, int size);
+
+	List<SearchPostRes> searchPostsByTags(TagQuery tagQuery, int page, int size);
+
+	List<SearchPostRes> findSearchPostsByIds(List<Long> postingIds);
 
 	Optional<Posting> findBy(Long id);
 }
@@ -2,6 +2,8 @@ package com.sikhye.chabak.service.post;
 
 import static com.sikhye.chabak.global.constant.BaseStatus.*;
 import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+import static com.sikhye.chabak.service.member.constant.BaseRole.*;
+import static com.sikhye.chabak.utils.search.FulltextUtils.*;
 import static java.util.stream.Collectors.*;
 
 import java.util.ArrayList;
@@ -11,7 +13,9 @@ import java.util.Optional;
 
 import javax.validation.constraints.NotNull;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -19,6 +23,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.sikhye.chabak.global.exception.BaseException;
 import com.sikhye.chabak.service.image.UploadService;
@@ -33,13 +38,20 @@ import com.sikhye.chabak.service.post.domain.PostingTag;
 import com.sikhye.chabak.service.post.domain.PostingTagRepository;
 import com.sikhye.chabak.service.post.dto.PostingCommentReq;
 import com.sikhye.chabak.service.post.dto.PostingCommentRes;
+import com.sikhye.chabak.service.post.dto.PostingCursor;
 import com.sikhye.chabak.service.post.dto.PostingDetailRes;
 import com.sikhye.chabak.service.post.dto.PostingEditReq;
+import com.sikhye.chabak.service.post.dto.PostingFeedRes;
 import com.sikhye.chabak.service.post.dto.PostingRecentRes;
 import com.sikhye.chabak.service.post.dto.PostingReq;
 import com.sikhye.chabak.service.post.dto.PostingRes;
 import com.sikhye.chabak.service.post.dto.PostingTagReq;
 import com.sikhye.chabak.service.post.dto.PostingTagRes;
+import com.sikhye.chabak.service.post.export.PostingNdjsonWriter;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.event.SearchDocumentChangedEvent;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,18 +66,25 @@ public class PostingServiceImpl implements PostingService {
 	private final PostingTagRepository postingTagRepository;
 	private final UploadService s3UploadService;
 	private final JwtTokenService jwtTokenService;
+	private final PostingNdjsonWriter postingNdjsonWriter;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private static final int MAX_FEED_SIZE = 100;
 
 	public PostingServiceImpl(PostingRepository postingRepository,
 		PostingImageRepository postingImageRepository,
 		PostingCommentRepository postingCommentRepository,
 		PostingTagRepository postingTagRepository, UploadService s3UploadService,
-		JwtTokenService jwtTokenService) {
+		JwtTokenService jwtTokenService, PostingNdjsonWriter postingNdjsonWriter,
+		ApplicationEventPublisher eventPublisher) {
 		this.postingRepository = postingRepository;
 		this.postingImageRepository = postingImageRepository;
 		this.postingCommentRepository = postingCommentRepository;
 		this.postingTagRepository = postingTagRepository;
 		this.s3UploadService = s3UploadService;
 		this.jwtTokenService = jwtTokenService;
+		this.postingNdjsonWriter = postingNdjsonWriter;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -107,37 +126,59 @@ public class PostingServiceImpl implements PostingService {
 		log.info("================> page size = {}", pageable.getPageSize());
 		Page<Posting> postings = postingRepository.findPageByStatusQueryDSL1(pageable);
 
-		return postings.map(posting ->
-			PostingRes.builder()
-				.id(posting.getId())
-				.title(posting.getTitle())
-				.content(posting.getContent())
-				.nickname(posting.getMember().getNickname())
-				.imageUrls(posting.getPostingImages().stream()
-					.map(PostingImage::getImageUrl)
-					.collect(toList()))
-				.commentCount((long)posting.getPostingComments().size())
-				.createdAt(posting.getCreatedAt().toLocalDate())
-				.build()
-		);
+		return new PageImpl<>(getPostingResList(postings.getContent()), pageable, postings.getTotalElements());
 
 	}
 
 	@Override
 	public List<PostingRes> findPosts() {
-		List<Posting> findPostings = postingRepository.findPostingsByStatus(USED).orElseGet(Collections::emptyList);
+		return postingRepository.findPostingResByStatus(USED);
+	}
 
-		return getPostingResList(findPostings);
+	@Override
+	public PostingFeedRes findPostFeed(String after, int limit) {
+		int size = Math.max(1, Math.min(limit, MAX_FEED_SIZE));
+		PostingCursor cursor = after == null || after.isBlank() ? null : PostingCursor.decode(after);
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		List<Posting> postings = postingRepository.findFeedAfter(
+			cursor == null ? null : cursor.getCreatedAt(),
+			cursor == null ? null : cursor.getPostingId(),
+			size + 1);
+
+		String nextCursor = null;
+		if (postings.size() > size) {
+			postings = postings.subList(0, size);
+			Posting last = postings.get(size - 1);
+			nextCursor = new PostingCursor(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		return PostingFeedRes.builder()
+			.postings(getPostingResList(postings))
+			.nextCursor(nextCursor)
+			.build();
+	}
 
+	@Override
+	public StreamingResponseBody streamPosts() {
+		return postingNdjsonWriter::write;
+	}
+
+	@Override
+	public StreamingResponseBody exportPosts() {
+		// 권한 확인은 스트리밍 시작 전에 요청 스레드에서
+		if (!ROLE_ADMIN.equals(jwtTokenService.getMemberRole())) {
+			throw new BaseException(INVALID_USER_JWT);
+		}
+
+		return postingNdjsonWriter::write;
 	}
 
 	@Override
 	public List<PostingRes> findMemberPosts() {
 		Long memberId = jwtTokenService.getMemberId();
-		List<Posting> memberPostings = postingRepository.findPostingsByMemberIdAndStatus(memberId, USED)
-			.orElseGet(Collections::emptyList);
 
-		return getPostingResList(memberPostings);
+		return postingRepository.findPostingResByMemberIdAndStatus(memberId, USED);
 	}
 
 	@Override
@@ -153,6 +194,7 @@ public class PostingServiceImpl implements PostingService {
 			.build();
 
 		Posting savedPosting = postingRepository.save(toSavePosting);
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, savedPosting.getId()));
 
 		if (postingReq.isEmptyOrNullImages()) {
 			return toSavePosting.getId();
@@ -200,6 +242,7 @@ public class PostingServiceImpl implements PostingService {
 		}
 
 		findPost.setPosting(postingEditReq.getContent());
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, postId));
 
 		// =================================
 		// 태그 작업
@@ -242,6 +285,7 @@ public class PostingServiceImpl implements PostingService {
 		Posting toDeletePost = postingRepository.findPostingByIdAndStatus(postId, USED)
 			.orElseThrow(() -> new BaseException(NOT_TO_DELETE));
 		toDeletePost.setStatusToDelete();
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, postId));
 
 		return toDeletePost.getId();
 	}
@@ -263,6 +307,7 @@ public class PostingServiceImpl implements PostingService {
 		validateMember(postingId);
 
 		List<String> postingTagNames = postingTagReq.getPostingTags();
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, postingId));
 
 		return postingTagNames.stream()
 			.map(s -> {
@@ -290,6 +335,7 @@ public class PostingServiceImpl implements PostingService {
 		}
 
 		findPostingTag.setName(postingTagName);
+		eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, postingId));
 
 		return postingTagId;
 	}
@@ -312,6 +358,7 @@ public class PostingServiceImpl implements PostingService {
 			}
 
 			postingTag.setStatusToDelete();
+			eventPublisher.publishEvent(new SearchDocumentChangedEvent(SearchDocumentType.POST, postingId));
 
 			return postingTagId;
 		}
@@ -394,10 +441,7 @@ public class PostingServiceImpl implements PostingService {
 
 	@Override
 	public List<PostingRes> findMemberPosts(Long memberId) {
-		List<Posting> memberPostings = postingRepository.findPostingsByMemberIdAndStatus(memberId, USED)
-			.orElseGet(Collections::emptyList);
-
-		return getPostingResList(memberPostings);
+		return postingRepository.findPostingResByMemberIdAndStatus(memberId, USED);
 	}
 
 	@Override
@@ -449,8 +493,22 @@ public class PostingServiceImpl implements PostingService {
 	}
 
 	@Override
-	public List<PostingTag> searchPostTagsBy(String tagName) {
-		return postingTagRepository.findByNameAndStatus(tagName, USED).orElseGet(Collections::emptyList);
+	public List<Posting> searchPostsByFulltext(String keyword, int page, int size) {
+		return postingRepository.searchByFulltext(keyword, toBooleanPhrase(keyword), PageRequest.of(page, size));
+	}
+
+	@Override
+	public List<SearchPostRes> searchPostsByTags(TagQuery tagQuery, int page, int size) {
+		return postingRepository.findSearchPostsByTags(tagQuery, (long)page * size, size);
+	}
+
+	@Override
+	public List<SearchPostRes> findSearchPostsByIds(List<Long> postingIds) {
+		if (postingIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return postingRepository.findSearchPostsByIds(postingIds);
 	}
 
 	@Override
@@ -471,23 +529,12 @@ public class PostingServiceImpl implements PostingService {
 		}
 	}
 
+	// 조회된 게시글 순서 그대로 DTO 조회 (연관 엔티티 지연 로딩 없이 쿼리 2~3번)
 	@NotNull
 	private List<PostingRes> getPostingResList(List<Posting> postings) {
-		return postings.stream()
-			.map(posting ->
-				PostingRes.builder()
-					.id(posting.getId())
-					.title(posting.getTitle())
-					.content(posting.getContent())
-					.nickname(posting.getMember().getNickname())
-					.imageUrls(posting.getPostingImages().stream()
-						.map(PostingImage::getImageUrl)
-						.collect(toList()))
-					.commentCount((long)posting.getPostingComments().size())
-					.createdAt(posting.getCreatedAt().toLocalDate())
-					.build()
-			)
-			.collect(toList());
+		return postingRepository.findPostingResByIds(postings.stream()
+			.map(Posting::getId)
+			.collect(toList()));
 	}
 
 }
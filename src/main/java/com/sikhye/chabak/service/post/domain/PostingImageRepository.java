@@ -1,5 +1,6 @@
 package com.sikhye.chabak.service.post.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,6 @@ public interface PostingImageRepository extends JpaRepository<PostingImage, Long
 	Optional<PostingImage> findTop1ByPostingIdAndStatus(Long postingId, BaseStatus status);
 
 	Optional<List<PostingImage>> findPostingImageAllByStatus(BaseStatus status);
+
+	List<PostingImage> findPostingImagesByPostingIdInAndStatus(Collection<Long> postingIds, BaseStatus status);
 }
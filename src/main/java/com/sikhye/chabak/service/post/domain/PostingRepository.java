@@ -1,13 +1,19 @@
 package com.sikhye.chabak.service.post.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.sikhye.chabak.global.constant.BaseStatus;
 
@@ -23,10 +29,21 @@ public interface PostingRepository extends JpaRepository<Posting, Long>, Posting
 
 	Optional<List<Posting>> findPostingsByStatus(BaseStatus status);
 
+	// ID 스트리밍 조회 (MySQL 은 useCursorFetch=true 일 때 fetch size 단위로 서버 커서에서 읽음)
+	@QueryHints(value = {
+		@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "500")})
+	@Query("select p.id from Posting p where p.status = :status order by p.id")
+	Stream<Long> streamPostingIdsByStatus(@Param("status") BaseStatus status);
+
 	Optional<List<Posting>> findPostingsByMemberIdAndStatus(Long memberId, BaseStatus status);
 
 	Optional<Posting> findPostingByIdAndStatus(Long postingId, BaseStatus status);
 
+	List<Posting> findPostingsByIdInAndStatus(Collection<Long> postingIds, BaseStatus status);
+
+	List<Posting> findPostingsByStatusAndIdGreaterThanOrderByIdAsc(BaseStatus status, Long postingId,
+		Pageable pageable);
+
 	Optional<List<Posting>> findTop4ByStatusOrderByCreatedAtDesc(BaseStatus status);
 
 	// //20211216
@@ -34,7 +51,20 @@ public interface PostingRepository extends JpaRepository<Posting, Long>, Posting
 	//
 	// int countAllByStatus(BaseStatus status);
 
-	Optional<List<Posting>> findByTitleContainsOrContentContainsAndStatus(String title, String content,
-		BaseStatus status);
+	// 메소드 이름으로 만들면 title OR (content AND status) 가 되어 삭제된 글이 검색되므로 괄호를 직접 지정
+	@Query("select p from Posting p"
+		+ " where (p.title like concat('%', :title, '%') or p.content like concat('%', :content, '%'))"
+		+ " and p.status = :status")
+	Optional<List<Posting>> findByTitleContainsOrContentContainsAndStatus(@Param("title") String title,
+		@Param("content") String content, @Param("status") BaseStatus status);
+
+	// FULLTEXT(ngram) 검색 : 구문(phrase)으로 걸러낸 뒤 자연어 모드 관련도 순 정렬
+	@Query(value = "SELECT * FROM Posting p"
+		+ " WHERE MATCH(p.title, p.content) AGAINST(:phrase IN BOOLEAN MODE)"
+		+ " AND p.status = 'USED'"
+		+ " ORDER BY MATCH(p.title, p.content) AGAINST(:keyword IN NATURAL LANGUAGE MODE) DESC, p.id DESC",
+		nativeQuery = true)
+	List<Posting> searchByFulltext(@Param("keyword") String keyword, @Param("phrase") String phrase,
+		Pageable pageable);
 }
 
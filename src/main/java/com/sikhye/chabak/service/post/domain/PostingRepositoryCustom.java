@@ -1,10 +1,35 @@
 package com.sikhye.chabak.service.post.domain;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.sikhye.chabak.global.constant.BaseStatus;
+import com.sikhye.chabak.service.post.dto.PostingRes;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.tag.TagTarget;
+
 public interface PostingRepositoryCustom {
 
 	Page<Posting> findPageByStatusQueryDSL1(Pageable pageable);
+
+	List<Posting> findFeedAfter(LocalDateTime createdAt, Long postingId, int limit);
+
+	List<PostingRes> findPostingResByStatus(BaseStatus status);
+
+	List<PostingRes> findPostingResByMemberIdAndStatus(Long memberId, BaseStatus status);
+
+	List<PostingRes> findPostingResByIds(List<Long> postingIds);
+
+	List<SearchPostRes> findSearchPostsByTags(TagQuery tagQuery, long offset, int limit);
+
+	List<SearchPostRes> findSearchPostsByIds(List<Long> postingIds);
+
+	List<TagTarget> findPostingTagTargets();
+
+	List<Long> findPostingIdsByStatus(BaseStatus status);
 }
 
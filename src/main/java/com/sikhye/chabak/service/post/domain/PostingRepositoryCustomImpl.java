@@ -1,9 +1,19 @@
 package com.sikhye.chabak.service.post.domain;
 
 import static com.sikhye.chabak.global.constant.BaseStatus.*;
+import static com.sikhye.chabak.service.member.domain.QMember.*;
 import static com.sikhye.chabak.service.post.domain.QPosting.*;
+import static com.sikhye.chabak.service.post.domain.QPostingComment.*;
+import static com.sikhye.chabak.service.post.domain.QPostingImage.*;
+import static com.sikhye.chabak.service.post.domain.QPostingTag.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 
@@ -12,8 +22,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sikhye.chabak.global.constant.BaseStatus;
+import com.sikhye.chabak.service.post.dto.PostingRes;
+import com.sikhye.chabak.service.search.constant.TagMatchType;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+import com.sikhye.chabak.service.search.tag.TagTarget;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +44,9 @@ import lombok.extern.slf4j.Slf4j;
 @Repository
 public class PostingRepositoryCustomImpl implements PostingRepositoryCustom {
 
+	// IN 절 하나에 넣을 최대 ID 개수
+	private static final int IN_BATCH_SIZE = 1000;
+
 	private final JPAQueryFactory queryFactory;
 
 	public PostingRepositoryCustomImpl(EntityManager em) {
@@ -46,5 +72,247 @@ public class PostingRepositoryCustomImpl implements PostingRepositoryCustom {
 		return PageableExecutionUtils.getPage(results, pageable, total::fetchCount);
 	}
 
+	/**
+	 * 커서(createdAt, id) 이후의 게시글 (keyset 페이징)
+	 * OFFSET 없이 idx_posting_status_created_at_id 인덱스에서 커서 위치부터 limit 건만 읽는다.
+	 *
+	 * @param createdAt 이전 페이지 마지막 게시글의 작성일 (null 이면 첫 페이지)
+	 * @param postingId 이전 페이지 마지막 게시글의 ID
+	 * @param limit     조회할 개수
+	 * @return 작성일, ID 역순 게시글
+	 */
+	@Override
+	public List<Posting> findFeedAfter(LocalDateTime createdAt, Long postingId, int limit) {
+		return queryFactory
+			.selectFrom(posting)
+			.where(posting.status.eq(USED),
+				afterCursor(createdAt, postingId))
+			.orderBy(posting.createdAt.desc(), posting.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 게시글 목록 DTO 조회 (엔티티를 만들지 않음)
+	 * 작성자 닉네임은 join, 댓글 수는 서브쿼리, 이미지는 IN 쿼리 한 번으로 채운다.
+	 */
+	@Override
+	public List<PostingRes> findPostingResByStatus(BaseStatus status) {
+		return fetchPostingRes(posting.status.eq(status));
+	}
+
+	@Override
+	public List<PostingRes> findPostingResByMemberIdAndStatus(Long memberId, BaseStatus status) {
+		return fetchPostingRes(posting.memberId.eq(memberId), posting.status.eq(status));
+	}
+
+	// 전달받은 ID 순서대로 반환
+	@Override
+	public List<PostingRes> findPostingResByIds(List<Long> postingIds) {
+		if (postingIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Long, PostingRes> postingResMap = new HashMap<>();
+		for (List<Long> ids : partition(postingIds)) {
+			fetchPostingRes(posting.id.in(ids))
+				.forEach(postingRes -> postingResMap.put(postingRes.getId(), postingRes));
+		}
+
+		return postingIds.stream()
+			.map(postingResMap::get)
+			.filter(postingRes -> postingRes != null)
+			.collect(Collectors.toList());
+	}
+
+	// 태그 검색 (태그-게시글 조인 한 번 + 대표 이미지 조회 한 번)
+	@Override
+	public List<SearchPostRes> findSearchPostsByTags(TagQuery tagQuery, long offset, int limit) {
+		QPostingTag excludedTag = new QPostingTag("excludedTag");
+
+		JPAQuery<Tuple> query = queryFactory
+			.select(posting.id, posting.title, posting.content)
+			.from(postingTag)
+			.join(posting).on(posting.id.eq(postingTag.postingId))
+			.where(postingTag.name.in(tagQuery.getTags()),
+				postingTag.status.eq(USED),
+				posting.status.eq(USED))
+			// 여러 태그가 일치해도 게시글은 한 번만 (나머지 컬럼은 PK 에 함수 종속)
+			.groupBy(posting.id);
+
+		if (!tagQuery.getExcludedTags().isEmpty()) {
+			query.where(posting.id.notIn(JPAExpressions
+				.select(excludedTag.postingId)
+				.from(excludedTag)
+				.where(excludedTag.name.in(tagQuery.getExcludedTags()),
+					excludedTag.status.eq(USED))));
+		}
+
+		if (tagQuery.getMatchType() == TagMatchType.ALL) {
+			query.having(postingTag.name.countDistinct().eq((long)tagQuery.getTags().size()));
+		}
+
+		return toSearchPosts(query
+			.orderBy(posting.id.desc())
+			.offset(offset)
+			.limit(limit)
+			.fetch());
+	}
+
+	// 전달받은 ID 순서대로 반환
+	@Override
+	public List<SearchPostRes> findSearchPostsByIds(List<Long> postingIds) {
+		Map<Long, SearchPostRes> searchPosts = new HashMap<>();
+
+		for (List<Long> ids : partition(postingIds)) {
+			toSearchPosts(queryFactory
+				.select(posting.id, posting.title, posting.content)
+				.from(posting)
+				.where(posting.id.in(ids),
+					posting.status.eq(USED))
+				.fetch())
+				.forEach(searchPost -> searchPosts.put(searchPost.getId(), searchPost));
+		}
+
+		return postingIds.stream()
+			.map(searchPosts::get)
+			.filter(searchPost -> searchPost != null)
+			.collect(Collectors.toList());
+	}
+
+	// 태그 인덱스 적재용 (USED 게시글의 USED 태그)
+	@Override
+	public List<TagTarget> findPostingTagTargets() {
+		return queryFactory
+			.select(Projections.constructor(TagTarget.class, postingTag.name, postingTag.postingId))
+			.from(postingTag)
+			.join(posting).on(posting.id.eq(postingTag.postingId))
+			.where(postingTag.status.eq(USED),
+				posting.status.eq(USED))
+			.fetch();
+	}
+
+	@Override
+	public List<Long> findPostingIdsByStatus(BaseStatus status) {
+		return queryFactory
+			.select(posting.id)
+			.from(posting)
+			.where(posting.status.eq(status))
+			.fetch();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private List<SearchPostRes> toSearchPosts(List<Tuple> rows) {
+		Map<Long, String> imageUrls = findFirstImageUrls(
+			rows.stream().map(row -> row.get(posting.id)).collect(Collectors.toList()));
+
+		return rows.stream()
+			.map(row -> SearchPostRes.builder()
+				.id(row.get(posting.id))
+				.title(row.get(posting.title))
+				.content(row.get(posting.content))
+				.imageUrl(imageUrls.getOrDefault(row.get(posting.id), ""))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private List<PostingRes> fetchPostingRes(Predicate... conditions) {
+		NumberPath<Long> commentCount = Expressions.numberPath(Long.class, "commentCount");
+
+		List<Tuple> rows = queryFactory
+			.select(posting.id, posting.title, posting.content, member.nickname, posting.createdAt,
+				Expressions.as(JPAExpressions
+					.select(postingComment.id.count())
+					.from(postingComment)
+					.where(postingComment.postingId.eq(posting.id),
+						postingComment.status.eq(USED)), commentCount))
+			.from(posting)
+			.leftJoin(member).on(member.id.eq(posting.memberId))
+			.where(conditions)
+			.fetch();
+
+		Map<Long, List<String>> imageUrls = findImageUrls(
+			rows.stream().map(row -> row.get(posting.id)).collect(Collectors.toList()));
+
+		return rows.stream()
+			.map(row -> {
+				Long postingId = row.get(posting.id);
+				LocalDateTime createdAt = row.get(posting.createdAt);
+
+				return PostingRes.builder()
+					.id(postingId)
+					.title(row.get(posting.title))
+					.content(row.get(posting.content))
+					.nickname(row.get(member.nickname))
+					.imageUrls(imageUrls.getOrDefault(postingId, Collections.emptyList()))
+					.commentCount(row.get(commentCount))
+					.createdAt(createdAt == null ? null : createdAt.toLocalDate())
+					.build();
+			})
+			.collect(Collectors.toList());
+	}
+
+	private Map<Long, List<String>> findImageUrls(List<Long> postingIds) {
+		Map<Long, List<String>> imageUrls = new HashMap<>();
+
+		for (List<Long> ids : partition(postingIds)) {
+			queryFactory
+				.select(postingImage.postingId, postingImage.imageUrl)
+				.from(postingImage)
+				.where(postingImage.postingId.in(ids),
+					postingImage.status.eq(USED))
+				.orderBy(postingImage.Id.asc())
+				.fetch()
+				.forEach(row -> imageUrls
+					.computeIfAbsent(row.get(postingImage.postingId), id -> new ArrayList<>())
+					.add(row.get(postingImage.imageUrl)));
+		}
+
+		return imageUrls;
+	}
+
+	// 게시글별 첫 번째 이미지 (postingId -> imageUrl)
+	private Map<Long, String> findFirstImageUrls(List<Long> postingIds) {
+		QPostingImage firstImage = new QPostingImage("firstImage");
+		Map<Long, String> imageUrls = new HashMap<>();
+
+		for (List<Long> ids : partition(postingIds)) {
+			queryFactory
+				.select(postingImage.postingId, postingImage.imageUrl)
+				.from(postingImage)
+				.where(postingImage.Id.in(JPAExpressions
+					.select(firstImage.Id.min())
+					.from(firstImage)
+					.where(firstImage.postingId.in(ids),
+						firstImage.status.eq(USED))
+					.groupBy(firstImage.postingId)))
+				.fetch()
+				.forEach(row -> imageUrls.put(row.get(postingImage.postingId), row.get(postingImage.imageUrl)));
+		}
+
+		return imageUrls;
+	}
+
+	private static List<List<Long>> partition(List<Long> ids) {
+		List<List<Long>> batches = new ArrayList<>();
+		for (int from = 0; from < ids.size(); from += IN_BATCH_SIZE) {
+			batches.add(ids.subList(from, Math.min(from + IN_BATCH_SIZE, ids.size())));
+		}
+
+		return batches;
+	}
+
+	private BooleanExpression afterCursor(LocalDateTime createdAt, Long postingId) {
+		if (createdAt == null || postingId == null) {
+			return null;
+		}
+
+		return posting.createdAt.lt(createdAt)
+			.or(posting.createdAt.eq(createdAt).and(posting.id.lt(postingId)));
+	}
+
 }
 
@@ -1,5 +1,6 @@
 package com.sikhye.chabak.service.post.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ public interface PostingTagRepository extends JpaRepository<PostingTag, Long> {
 	Optional<PostingTag> findPostingTagByIdAndStatus(Long postingId, BaseStatus status);
 
 	Optional<List<PostingTag>> findByNameAndStatus(String name, BaseStatus status);
+
+	List<PostingTag> findPostingTagsByPostingIdInAndStatus(Collection<Long> postingIds, BaseStatus status);
 }
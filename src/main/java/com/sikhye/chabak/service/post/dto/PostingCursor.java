@@ -0,0 +1,45 @@
+package com.sikhye.chabak.service.post.dto;
+
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.sikhye.chabak.global.exception.BaseException;
+
+import lombok.Getter;
+
+/**
+ * 피드 페이지 커서 (마지막 게시글의 작성일, ID)
+ * 클라이언트에는 "createdAt,id" 를 URL-safe Base64 로 인코딩한 문자열만 노출한다.
+ */
+@Getter
+public class PostingCursor {
+
+	private static final String DELIMITER = ",";
+
+	private final LocalDateTime createdAt;
+	private final Long postingId;
+
+	public PostingCursor(LocalDateTime createdAt, Long postingId) {
+		this.createdAt = createdAt;
+		this.postingId = postingId;
+	}
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + postingId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static PostingCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] values = raw.split(DELIMITER);
+
+			return new PostingCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+		} catch (RuntimeException e) {
+			throw new BaseException(INVALID_CURSOR);
+		}
+	}
+}
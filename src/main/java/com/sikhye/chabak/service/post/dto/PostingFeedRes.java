@@ -0,0 +1,27 @@
+package com.sikhye.chabak.service.post.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostingFeedRes {
+
+	private List<PostingRes> postings;
+
+	// 다음 페이지 요청 시 after 로 전달 (마지막 페이지면 null)
+	private String nextCursor;
+
+	public PostingFeedRes() {
+	}
+
+	@Builder
+	public PostingFeedRes(List<PostingRes> postings, String nextCursor) {
+		this.postings = postings;
+		this.nextCursor = nextCursor;
+	}
+}
@@ -0,0 +1,82 @@
+package com.sikhye.chabak.service.post.export;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sikhye.chabak.service.post.domain.PostingRepository;
+import com.sikhye.chabak.service.post.dto.PostingRes;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 NDJSON 스트리밍
+ * 게시글 ID 만 JDBC 커서로 한 방향으로 읽으면서 BATCH_SIZE 건마다 DTO 로 조회해 한 줄씩 내보낸다.
+ * 엔티티를 올리지 않고 배치 단위로만 보관하므로 전체 건수와 상관없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Component
+public class PostingNdjsonWriter {
+
+	private static final int BATCH_SIZE = 500;
+	private static final byte NEW_LINE = '\n';
+
+	private final PostingRepository postingRepository;
+	private final ObjectMapper objectMapper;
+
+	public PostingNdjsonWriter(PostingRepository postingRepository, ObjectMapper objectMapper) {
+		this.postingRepository = postingRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	// StreamingResponseBody 스레드에서 호출되므로 커서가 열려있는 동안 트랜잭션을 직접 연다.
+	@Transactional(readOnly = true)
+	public void write(OutputStream outputStream) throws IOException {
+		long written = 0;
+
+		try (Stream<Long> ids = postingRepository.streamPostingIdsByStatus(USED)) {
+			List<Long> postingIds = new ArrayList<>(BATCH_SIZE);
+			Iterator<Long> iterator = ids.iterator();
+
+			while (iterator.hasNext()) {
+				postingIds.add(iterator.next());
+
+				if (postingIds.size() == BATCH_SIZE) {
+					written += writeBatch(postingIds, outputStream);
+					postingIds.clear();
+				}
+			}
+
+			if (!postingIds.isEmpty()) {
+				written += writeBatch(postingIds, outputStream);
+			}
+		}
+
+		log.info(">> [+] posting stream finished : {} postings", written);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private int writeBatch(List<Long> postingIds, OutputStream outputStream) throws IOException {
+		List<PostingRes> postingResList = postingRepository.findPostingResByIds(postingIds);
+
+		for (PostingRes postingRes : postingResList) {
+			outputStream.write(objectMapper.writeValueAsBytes(postingRes));
+			outputStream.write(NEW_LINE);
+		}
+		outputStream.flush();
+
+		return postingResList.size();
+	}
+}
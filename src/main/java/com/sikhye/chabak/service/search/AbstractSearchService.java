@@ -0,0 +1,105 @@
+package com.sikhye.chabak.service.search;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.sikhye.chabak.service.place.PlaceService;
+import com.sikhye.chabak.service.place.domain.Place;
+import com.sikhye.chabak.service.post.PostingService;
+import com.sikhye.chabak.service.post.domain.Posting;
+import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.dto.TagFacetRes;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+import com.sikhye.chabak.service.search.fanout.SearchFanOut;
+import com.sikhye.chabak.service.search.tag.TagBitmapIndex;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+
+/**
+ * RDB 기반 검색 구현체 공통 (태그 검색, 응답 변환)
+ * 검색어 검색(searchBy) 방식만 구현체마다 다르다. 장소 / 게시글은 SearchFanOut 으로 병렬 조회한다.
+ */
+public abstract class AbstractSearchService implements SearchService {
+
+	private static final String SHARED_INDEX_ID = "shared";
+
+	protected final PostingService postingService;
+	protected final PlaceService placeService;
+	protected final TagBitmapIndex tagBitmapIndex;
+	protected final SearchFanOut searchFanOut;
+
+	protected AbstractSearchService(PostingService postingService, PlaceService placeService,
+		TagBitmapIndex tagBitmapIndex, SearchFanOut searchFanOut) {
+		this.postingService = postingService;
+		this.placeService = placeService;
+		this.tagBitmapIndex = tagBitmapIndex;
+		this.searchFanOut = searchFanOut;
+	}
+
+	@Override
+	public SearchDto searchByTags(TagQuery tagQuery, int page, int size) {
+		if (tagQuery.isEmpty()) {
+			return SearchDto.builder()
+				.places(Collections.emptyList())
+				.posts(Collections.emptyList())
+				.build();
+		}
+
+		// 기동 직후 태그 인덱스 적재 전에는 조인 쿼리로 찾는다.
+		if (!tagBitmapIndex.isReady()) {
+			return searchFanOut.search(
+				() -> placeService.searchPlacesByTags(tagQuery, page, size),
+				() -> postingService.searchPostsByTags(tagQuery, page, size));
+		}
+
+		long offset = (long)page * size;
+		return searchFanOut.search(
+			() -> placeService.findSearchPlacesByIds(
+				tagBitmapIndex.findIds(SearchDocumentType.PLACE, tagQuery, offset, size)),
+			() -> postingService.findSearchPostsByIds(
+				tagBitmapIndex.findIds(SearchDocumentType.POST, tagQuery, offset, size)));
+	}
+
+	@Override
+	public TagFacetRes findTagFacets(TagQuery tagQuery, int limit) {
+		return tagBitmapIndex.findFacets(tagQuery, limit);
+	}
+
+	@Override
+	public long rebuildIndex() {
+		return 0;
+	}
+
+	@Override
+	public void syncDocuments(SearchDocumentType type, Collection<Long> usedIds, Collection<Long> deletedIds) {
+		// DB 를 직접 검색하므로 반영할 인덱스가 없다.
+	}
+
+	@Override
+	public String getIndexId() {
+		return SHARED_INDEX_ID;
+	}
+
+	protected static <T> List<T> page(List<T> results, int page, int size) {
+		return results.stream()
+			.skip((long)page * size)
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+
+	// 응답 변환은 ID IN 조회 + 대표 이미지 일괄 조회 (행마다 이미지 지연 로딩하지 않는다)
+	protected List<SearchPlaceRes> toSearchPlaces(List<Place> places) {
+		return placeService.findSearchPlacesByIds(places.stream()
+			.map(Place::getId)
+			.collect(Collectors.toList()));
+	}
+
+	protected List<SearchPostRes> toSearchPosts(List<Posting> posts) {
+		return postingService.findSearchPostsByIds(posts.stream()
+			.map(Posting::getId)
+			.collect(Collectors.toList()));
+	}
+}
@@ -1,12 +1,30 @@
 package com.sikhye.chabak.service.search;
 
+import java.util.Collection;
+
 import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.dto.TagFacetRes;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+import com.sikhye.chabak.service.search.tag.TagQuery;
 
 public interface SearchService {
 
-	SearchDto searchBy(String keyword);
+	SearchDto searchBy(String keyword, int page, int size);
+
+	// 태그 검색 (여러 태그를 OR / AND 결합, 제외 태그는 NOT)
+	SearchDto searchByTags(TagQuery tagQuery, int page, int size);
+
+	// 태그 조건에 맞는 장소/게시글 수와 태그별 건수
+	TagFacetRes findTagFacets(TagQuery tagQuery, int limit);
+
+	// 검색 인덱스 전체 재구성, 재색인한 문서 수 반환 (DB 를 직접 검색하는 구현체는 0)
+	long rebuildIndex();
+
+	// 변경분 일괄 반영 (usedIds 는 다시 색인, deletedIds 는 인덱스에서 삭제)
+	void syncDocuments(SearchDocumentType type, Collection<Long> usedIds, Collection<Long> deletedIds);
 
-	SearchDto searchByTag(String tagName);
+	// 증분 동기화 mark 를 구분할 인덱스 ID (인스턴스 로컬 인덱스는 인덱스마다 다르고, DB 를 직접 검색하면 공용)
+	String getIndexId();
 
 	// 20211216
 	// String addPlace(Place place);
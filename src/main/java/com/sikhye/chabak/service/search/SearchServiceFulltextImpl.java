@@ -0,0 +1,46 @@
+package com.sikhye.chabak.service.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.sikhye.chabak.service.place.PlaceService;
+import com.sikhye.chabak.service.post.PostingService;
+import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.fanout.SearchFanOut;
+import com.sikhye.chabak.service.search.tag.TagBitmapIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 (search.engine=fulltext)
+ * 장소 이름/주소, 게시글 제목/내용의 FULLTEXT 인덱스(db/migration/003)를 사용하고 관련도 순으로 정렬한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "fulltext")
+public class SearchServiceFulltextImpl extends AbstractSearchService {
+
+	// ngram_token_size 기본값, 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없다.
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
+	public SearchServiceFulltextImpl(PostingService postingService, PlaceService placeService,
+		TagBitmapIndex tagBitmapIndex, SearchFanOut searchFanOut) {
+		super(postingService, placeService, tagBitmapIndex, searchFanOut);
+	}
+
+	@Override
+	public SearchDto searchBy(String keyword, int page, int size) {
+		String trimmedKeyword = keyword.trim();
+
+		// 한 글자 검색어는 LIKE 검색
+		if (trimmedKeyword.length() < NGRAM_TOKEN_SIZE) {
+			return searchFanOut.search(
+				() -> toSearchPlaces(page(placeService.searchPlacesBy(trimmedKeyword), page, size)),
+				() -> toSearchPosts(page(postingService.searchPostsBy(trimmedKeyword), page, size)));
+		}
+
+		return searchFanOut.search(
+			() -> toSearchPlaces(placeService.searchPlacesByFulltext(trimmedKeyword, page, size)),
+			() -> toSearchPosts(postingService.searchPostsByFulltext(trimmedKeyword, page, size)));
+	}
+}
@@ -0,0 +1,7 @@
+package com.sikhye.chabak.service.search.constant;
+
+// 여러 태그 검색 시 결합 방식 (ANY : 하나라도 포함, ALL : 모두 포함)
+public enum TagMatchType {
+	ANY,
+	ALL
+}
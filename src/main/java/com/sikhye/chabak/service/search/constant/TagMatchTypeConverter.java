@@ -0,0 +1,13 @@
+package com.sikhye.chabak.service.search.constant;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+
+@Configuration
+public class TagMatchTypeConverter implements Converter<String, TagMatchType> {
+
+	@Override
+	public TagMatchType convert(String s) {
+		return TagMatchType.valueOf(s.toUpperCase());
+	}
+}
@@ -13,14 +13,17 @@ public class SearchDto {
 
 	List<SearchPlaceRes> places;
 	List<SearchPostRes> posts;
+	// 한쪽 소스가 실패하거나 제한 시간을 넘겨 비워진 경우에만 true
+	Boolean partial;
 
 	public SearchDto() {
 	}
 
 	@Builder
-	public SearchDto(List<SearchPlaceRes> places, List<SearchPostRes> posts) {
+	public SearchDto(List<SearchPlaceRes> places, List<SearchPostRes> posts, Boolean partial) {
 		this.places = places;
 		this.posts = posts;
+		this.partial = partial;
 	}
 }
 
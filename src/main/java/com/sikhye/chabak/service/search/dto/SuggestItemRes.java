@@ -0,0 +1,22 @@
+package com.sikhye.chabak.service.search.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SuggestItemRes {
+
+	// 장소 : placeId, 지역 : districtCode, 태그 : 없음
+	private String id;
+	private String text;
+
+	public SuggestItemRes() {
+	}
+
+	public SuggestItemRes(String id, String text) {
+		this.id = id;
+		this.text = text;
+	}
+}
@@ -0,0 +1,22 @@
+package com.sikhye.chabak.service.search.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class SuggestRes {
+
+	private List<SuggestItemRes> places;
+	private List<SuggestItemRes> regions;
+	private List<SuggestItemRes> tags;
+
+	public SuggestRes() {
+	}
+
+	public SuggestRes(List<SuggestItemRes> places, List<SuggestItemRes> regions, List<SuggestItemRes> tags) {
+		this.places = places;
+		this.regions = regions;
+		this.tags = tags;
+	}
+}
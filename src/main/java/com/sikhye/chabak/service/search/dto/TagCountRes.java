@@ -0,0 +1,18 @@
+package com.sikhye.chabak.service.search.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TagCountRes {
+
+	private String name;
+	private Long count;
+
+	public TagCountRes() {
+	}
+
+	public TagCountRes(String name, Long count) {
+		this.name = name;
+		this.count = count;
+	}
+}
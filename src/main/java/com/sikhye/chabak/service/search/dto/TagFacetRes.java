@@ -0,0 +1,26 @@
+package com.sikhye.chabak.service.search.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TagFacetRes {
+
+	private Long placeCount;
+	private Long postCount;
+	private List<TagCountRes> placeTags;
+	private List<TagCountRes> postTags;
+
+	public TagFacetRes() {
+	}
+
+	@Builder
+	public TagFacetRes(Long placeCount, Long postCount, List<TagCountRes> placeTags, List<TagCountRes> postTags) {
+		this.placeCount = placeCount;
+		this.postCount = postCount;
+		this.placeTags = placeTags;
+		this.postTags = postTags;
+	}
+}
@@ -0,0 +1,19 @@
+package com.sikhye.chabak.service.search.event;
+
+import lombok.Getter;
+
+/**
+ * 검색 대상(장소/게시글 및 태그, 이미지)이 변경되었을 때 발행하는 이벤트
+ * 검색 인덱스를 따로 두는 구현체(lucene)가 커밋 이후 해당 문서를 다시 색인한다.
+ */
+@Getter
+public class SearchDocumentChangedEvent {
+
+	private final SearchDocumentType type;
+	private final Long id;
+
+	public SearchDocumentChangedEvent(SearchDocumentType type, Long id) {
+		this.type = type;
+		this.id = id;
+	}
+}
@@ -0,0 +1,6 @@
+package com.sikhye.chabak.service.search.event;
+
+public enum SearchDocumentType {
+	PLACE,
+	POST
+}
@@ -0,0 +1,161 @@
+package com.sikhye.chabak.service.search.fanout;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소 / 게시글 검색 병렬 실행
+ * 두 소스를 전용 스레드 풀에서 동시에 조회하고, 소스별 제한 시간을 넘기면 해당 소스는 비워서
+ * partial=true 로 응답한다. 소스별 지연 시간은 search.source.latency 히스토그램으로 남긴다.
+ * 풀과 큐가 모두 차면 해당 소스는 실행하지 않고 비운다. (요청 스레드에서 실행하면 제한 시간이 적용되지 않음)
+ * 소스는 제한 시간을 걸어 둔 읽기 전용 트랜잭션 안에서 실행해, 시간을 넘긴 쿼리는 DB 에서도 중단되게 한다.
+ */
+@Slf4j
+@Component
+public class SearchFanOut {
+
+	private final ThreadPoolTaskExecutor executor;
+	private final Map<SearchDocumentType, Long> timeoutsMs = new EnumMap<>(SearchDocumentType.class);
+	private final Map<SearchDocumentType, Timer> latencies = new EnumMap<>(SearchDocumentType.class);
+	private final Map<SearchDocumentType, Counter> timeouts = new EnumMap<>(SearchDocumentType.class);
+	private final Map<SearchDocumentType, Counter> rejections = new EnumMap<>(SearchDocumentType.class);
+	private final Map<SearchDocumentType, TransactionTemplate> transactions = new EnumMap<>(SearchDocumentType.class);
+
+	public SearchFanOut(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+		@Value("${search.fanout.pool-size:8}") int poolSize,
+		@Value("${search.fanout.queue-capacity:100}") int queueCapacity,
+		@Value("${search.fanout.place-timeout-ms:800}") long placeTimeoutMs,
+		@Value("${search.fanout.post-timeout-ms:800}") long postTimeoutMs) {
+
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("search-fanout-");
+		// 풀과 큐가 모두 차면 거절하고 해당 소스는 비운다.
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+
+		timeoutsMs.put(SearchDocumentType.PLACE, placeTimeoutMs);
+		timeoutsMs.put(SearchDocumentType.POST, postTimeoutMs);
+
+		for (SearchDocumentType type : SearchDocumentType.values()) {
+			String source = type.name().toLowerCase();
+			latencies.put(type, Timer.builder("search.source.latency")
+				.description("검색 소스별 조회 시간")
+				.tag("source", source)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+			timeouts.put(type, Counter.builder("search.source.timeout")
+				.description("제한 시간을 넘겨 비워진 검색 소스 수")
+				.tag("source", source)
+				.register(meterRegistry));
+			rejections.put(type, Counter.builder("search.source.rejected")
+				.description("풀과 큐가 가득 차 실행하지 못하고 비워진 검색 소스 수")
+				.tag("source", source)
+				.register(meterRegistry));
+
+			// 트랜잭션 제한 시간은 쿼리마다 javax.persistence.query.timeout 으로 걸린다. (JDBC 는 초 단위라 올림)
+			TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+			transaction.setReadOnly(true);
+			transaction.setTimeout((int)Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutsMs.get(type) + 999)));
+			transactions.put(type, transaction);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * @param placeSource 장소 검색 (페이지 적용, 응답 DTO 까지 변환)
+	 * @param postSource  게시글 검색 (페이지 적용, 응답 DTO 까지 변환)
+	 * @return 두 소스를 합친 결과, 한쪽이라도 실패/시간 초과면 partial=true
+	 */
+	public SearchDto search(Supplier<List<SearchPlaceRes>> placeSource, Supplier<List<SearchPostRes>> postSource) {
+		long startNanos = System.nanoTime();
+
+		CompletableFuture<List<SearchPlaceRes>> places = submit(SearchDocumentType.PLACE, placeSource);
+		CompletableFuture<List<SearchPostRes>> posts = submit(SearchDocumentType.POST, postSource);
+
+		List<SearchPlaceRes> placeResults = await(SearchDocumentType.PLACE, places, startNanos);
+		List<SearchPostRes> postResults = await(SearchDocumentType.POST, posts, startNanos);
+
+		boolean partial = placeResults == null || postResults == null;
+
+		return SearchDto.builder()
+			.places(placeResults == null ? Collections.emptyList() : placeResults)
+			.posts(postResults == null ? Collections.emptyList() : postResults)
+			.partial(partial ? Boolean.TRUE : null)
+			.build();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// 거절되면 비어 있는(null) 결과
+	private <T> CompletableFuture<List<T>> submit(SearchDocumentType type, Supplier<List<T>> source) {
+		Timer latency = latencies.get(type);
+		TransactionTemplate transaction = transactions.get(type);
+
+		try {
+			return CompletableFuture.supplyAsync(
+				() -> latency.record(() -> transaction.execute(status -> source.get())), executor);
+		} catch (RejectedExecutionException e) {
+			rejections.get(type).increment();
+			log.warn(">> [-] search {} source rejected : pool and queue are full", type);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	// 실패하거나 제한 시간(검색 시작 기준)을 넘기면 null
+	private <T> List<T> await(SearchDocumentType type, CompletableFuture<List<T>> future, long startNanos) {
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		long remainingMs = Math.max(0, timeoutsMs.get(type) - elapsedMs);
+
+		try {
+			return future.get(remainingMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 실행 중인 쿼리는 트랜잭션 제한 시간(쿼리 타임아웃)에 걸려 DB 에서 중단된다.
+			future.cancel(true);
+			timeouts.get(type).increment();
+			log.warn(">> [-] search {} source timed out after {} ms", type, timeoutsMs.get(type));
+		} catch (ExecutionException | CancellationException e) {
+			log.error(">> [-] search {} source failed : {}", type, e.getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		return null;
+	}
+}
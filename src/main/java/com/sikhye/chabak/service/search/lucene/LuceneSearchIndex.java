@@ -0,0 +1,169 @@
+package com.sikhye.chabak.service.search.lucene;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디스크(MMapDirectory) Lucene 인덱스
+ * 쓰기는 IndexWriter 하나로 처리하고, 검색은 SearcherManager 로 near-real-time 리더를 공유한다.
+ * 변경 사항은 최대 NRT_MAX_STALE_SEC 이내에 검색되며, 디스크 커밋은 주기적으로 수행한다.
+ * 인덱스마다 ID 를 커밋 데이터에 남겨, 인스턴스별 증분 동기화 mark 를 구분한다. (인덱스를 지우면 새 ID 로 처음부터 동기화)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneSearchIndex {
+
+	private static final double NRT_MAX_STALE_SEC = 1.0;
+	private static final double NRT_MIN_STALE_SEC = 0.025;
+	private static final String INDEX_ID_KEY = "index-id";
+
+	private final Analyzer analyzer = new KoreanAnalyzer();
+	private final MMapDirectory directory;
+	private final IndexWriter indexWriter;
+	private final SearcherManager searcherManager;
+	private final ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+	private final String indexId;
+
+	public LuceneSearchIndex(@Value("${search.lucene.path:./data/search-index}") String indexPath) throws
+		IOException {
+		Path path = Paths.get(indexPath);
+		this.directory = new MMapDirectory(path);
+		this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+			.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+		this.indexId = readOrCreateIndexId();
+		this.searcherManager = new SearcherManager(indexWriter, null);
+		this.reopenThread = new ControlledRealTimeReopenThread<>(indexWriter, searcherManager,
+			NRT_MAX_STALE_SEC, NRT_MIN_STALE_SEC);
+		this.reopenThread.setName("lucene-nrt-reopen");
+		this.reopenThread.setDaemon(true);
+		this.reopenThread.start();
+
+		log.info(">> [+] lucene index opened : {} ({} docs)", path.toAbsolutePath(), indexWriter.getDocStats().numDocs);
+	}
+
+	public String getIndexId() {
+		return indexId;
+	}
+
+	public Analyzer getAnalyzer() {
+		return analyzer;
+	}
+
+	public boolean isEmpty() {
+		return indexWriter.getDocStats().numDocs == 0;
+	}
+
+	public void update(List<Document> documents) {
+		try {
+			for (Document document : documents) {
+				indexWriter.updateDocument(new Term(SearchFields.UID, document.get(SearchFields.UID)), document);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void delete(String uid) {
+		try {
+			indexWriter.deleteDocuments(new Term(SearchFields.UID, uid));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// generation 이전에 색인된 문서 삭제 (전체 재색인에서 빠진 문서 정리)
+	public void deleteOlderThan(long generation) {
+		try {
+			indexWriter.deleteDocuments(LongPoint.newRangeQuery(SearchFields.GENERATION, Long.MIN_VALUE,
+				generation - 1));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public IndexSearcher acquire() throws IOException {
+		return searcherManager.acquire();
+	}
+
+	public void release(IndexSearcher searcher) throws IOException {
+		searcherManager.release(searcher);
+	}
+
+	// 검색 결과에 바로 반영 (전체 재색인 직후 등)
+	public void refresh() throws IOException {
+		searcherManager.maybeRefreshBlocking();
+	}
+
+	@Scheduled(fixedDelayString = "${search.lucene.commit-interval-ms:30000}")
+	public void commit() {
+		try {
+			if (indexWriter.hasUncommittedChanges()) {
+				indexWriter.commit();
+			}
+		} catch (IOException e) {
+			log.error(">> [-] lucene commit failed : {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		reopenThread.close();
+		commit();
+		searcherManager.close();
+		indexWriter.close();
+		directory.close();
+		analyzer.close();
+	}
+
+	public static String uid(SearchDocumentType type, Long id) {
+		return type + ":" + id;
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private String readOrCreateIndexId() throws IOException {
+		Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+		if (commitData != null) {
+			for (Map.Entry<String, String> entry : commitData) {
+				if (INDEX_ID_KEY.equals(entry.getKey())) {
+					return entry.getValue();
+				}
+			}
+		}
+
+		String newIndexId = UUID.randomUUID().toString();
+		indexWriter.setLiveCommitData(Map.of(INDEX_ID_KEY, newIndexId).entrySet());
+		indexWriter.commit();
+		return newIndexId;
+	}
+}
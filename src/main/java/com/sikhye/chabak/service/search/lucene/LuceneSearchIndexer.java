@@ -0,0 +1,284 @@
+package com.sikhye.chabak.service.search.lucene;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+import static com.sikhye.chabak.service.search.event.SearchDocumentType.*;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sikhye.chabak.service.place.domain.Place;
+import com.sikhye.chabak.service.place.domain.PlaceImage;
+import com.sikhye.chabak.service.place.domain.PlaceImageRepository;
+import com.sikhye.chabak.service.place.domain.PlaceRepository;
+import com.sikhye.chabak.service.place.domain.PlaceTag;
+import com.sikhye.chabak.service.place.domain.PlaceTagRepository;
+import com.sikhye.chabak.service.post.domain.Posting;
+import com.sikhye.chabak.service.post.domain.PostingImage;
+import com.sikhye.chabak.service.post.domain.PostingImageRepository;
+import com.sikhye.chabak.service.post.domain.PostingRepository;
+import com.sikhye.chabak.service.post.domain.PostingTag;
+import com.sikhye.chabak.service.post.domain.PostingTagRepository;
+import com.sikhye.chabak.service.search.event.SearchDocumentChangedEvent;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장소/게시글 -> Lucene 문서 색인
+ * 쓰기 경로에서 발행한 SearchDocumentChangedEvent 를 커밋 후 받아 해당 문서만 다시 색인하고,
+ * 인덱스가 비어 있으면 기동 시 전체 재색인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class LuceneSearchIndexer {
+
+	private static final int REBUILD_BATCH_SIZE = 500;
+
+	private final LuceneSearchIndex searchIndex;
+	private final PlaceRepository placeRepository;
+	private final PlaceTagRepository placeTagRepository;
+	private final PlaceImageRepository placeImageRepository;
+	private final PostingRepository postingRepository;
+	private final PostingTagRepository postingTagRepository;
+	private final PostingImageRepository postingImageRepository;
+	private final EntityManager entityManager;
+
+	public LuceneSearchIndexer(LuceneSearchIndex searchIndex, PlaceRepository placeRepository,
+		PlaceTagRepository placeTagRepository, PlaceImageRepository placeImageRepository,
+		PostingRepository postingRepository, PostingTagRepository postingTagRepository,
+		PostingImageRepository postingImageRepository, EntityManager entityManager) {
+		this.searchIndex = searchIndex;
+		this.placeRepository = placeRepository;
+		this.placeTagRepository = placeTagRepository;
+		this.placeImageRepository = placeImageRepository;
+		this.postingRepository = postingRepository;
+		this.postingTagRepository = postingTagRepository;
+		this.postingImageRepository = postingImageRepository;
+		this.entityManager = entityManager;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		if (searchIndex.isEmpty()) {
+			rebuild();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onDocumentChanged(SearchDocumentChangedEvent event) {
+		if (event.getType() == PLACE) {
+			indexPlaces(List.of(event.getId()));
+		} else {
+			indexPostings(List.of(event.getId()));
+		}
+	}
+
+	/**
+	 * 장소 색인 (USED 가 아닌 장소는 인덱스에서 삭제)
+	 */
+	@Transactional(readOnly = true)
+	public void indexPlaces(Collection<Long> placeIds) {
+		List<Place> places = placeRepository.findPlacesByIdInAndStatus(placeIds, USED);
+		searchIndex.update(toPlaceDocuments(places, System.currentTimeMillis()));
+
+		deleteMissing(PLACE, placeIds, places.stream().map(Place::getId).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * 게시글 색인 (USED 가 아닌 게시글은 인덱스에서 삭제)
+	 */
+	@Transactional(readOnly = true)
+	public void indexPostings(Collection<Long> postingIds) {
+		List<Posting> postings = postingRepository.findPostingsByIdInAndStatus(postingIds, USED);
+		searchIndex.update(toPostingDocuments(postings, System.currentTimeMillis()));
+
+		deleteMissing(POST, postingIds, postings.stream().map(Posting::getId).collect(Collectors.toSet()));
+	}
+
+	public void delete(SearchDocumentType type, Long id) {
+		searchIndex.delete(LuceneSearchIndex.uid(type, id));
+	}
+
+	/**
+	 * 변경분 일괄 반영 (검색 인덱스 동기화 배치)
+	 *
+	 * @param usedIds    다시 색인할 문서 ID
+	 * @param deletedIds 인덱스에서 삭제할 문서 ID
+	 */
+	@Transactional(readOnly = true)
+	public void sync(SearchDocumentType type, Collection<Long> usedIds, Collection<Long> deletedIds) {
+		deletedIds.forEach(id -> delete(type, id));
+
+		if (usedIds.isEmpty()) {
+			return;
+		}
+
+		if (type == PLACE) {
+			indexPlaces(usedIds);
+		} else {
+			indexPostings(usedIds);
+		}
+	}
+
+	/**
+	 * 전체 재색인
+	 *
+	 * @return 색인한 문서 수
+	 */
+	@Transactional(readOnly = true)
+	public long rebuild() {
+		// 기존 문서를 지우지 않고 덮어쓴 뒤, 이번에 색인되지 않은 문서만 정리한다. (재색인 중에도 검색 가능)
+		long generation = System.currentTimeMillis();
+		long count = 0;
+
+		List<Place> places;
+		long lastPlaceId = 0L;
+		do {
+			places = placeRepository.findPlacesByStatusAndIdGreaterThanOrderByIdAsc(USED, lastPlaceId,
+				PageRequest.of(0, REBUILD_BATCH_SIZE));
+			if (!places.isEmpty()) {
+				searchIndex.update(toPlaceDocuments(places, generation));
+				lastPlaceId = places.get(places.size() - 1).getId();
+				count += places.size();
+			}
+			entityManager.clear();
+		} while (places.size() == REBUILD_BATCH_SIZE);
+
+		List<Posting> postings;
+		long lastPostingId = 0L;
+		do {
+			postings = postingRepository.findPostingsByStatusAndIdGreaterThanOrderByIdAsc(USED, lastPostingId,
+				PageRequest.of(0, REBUILD_BATCH_SIZE));
+			if (!postings.isEmpty()) {
+				searchIndex.update(toPostingDocuments(postings, generation));
+				lastPostingId = postings.get(postings.size() - 1).getId();
+				count += postings.size();
+			}
+			entityManager.clear();
+		} while (postings.size() == REBUILD_BATCH_SIZE);
+
+		searchIndex.deleteOlderThan(generation);
+		searchIndex.commit();
+		try {
+			searchIndex.refresh();
+		} catch (IOException e) {
+			log.error(">> [-] lucene refresh failed : {}", e.getMessage());
+		}
+
+		log.info(">> [+] lucene index rebuilt : {} docs in {} ms", count, System.currentTimeMillis() - generation);
+		return count;
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void deleteMissing(SearchDocumentType type, Collection<Long> requestedIds, Set<Long> foundIds) {
+		Set<Long> missingIds = new HashSet<>(requestedIds);
+		missingIds.removeAll(foundIds);
+		missingIds.forEach(id -> delete(type, id));
+	}
+
+	private List<Document> toPlaceDocuments(List<Place> places, long generation) {
+		if (places.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> placeIds = places.stream().map(Place::getId).collect(Collectors.toSet());
+
+		Map<Long, List<String>> tags = placeTagRepository.findPlaceTagsByPlaceIdInAndStatus(placeIds, USED)
+			.stream()
+			.collect(Collectors.groupingBy(PlaceTag::getPlaceId,
+				Collectors.mapping(PlaceTag::getName, Collectors.toList())));
+
+		Map<Long, String> firstImageUrls = placeImageRepository.findPlaceImagesByPlaceIdInAndStatus(placeIds, USED)
+			.stream()
+			.sorted(Comparator.comparing(PlaceImage::getId))
+			.collect(Collectors.toMap(PlaceImage::getPlaceId, PlaceImage::getImageUrl, (first, second) -> first));
+
+		return places.stream()
+			.map(place -> {
+				Document document = baseDocument(PLACE, place.getId(), generation,
+					tags.getOrDefault(place.getId(), List.of()), firstImageUrls.get(place.getId()));
+				addText(document, SearchFields.NAME, place.getName());
+				addText(document, SearchFields.ADDRESS, place.getAddress());
+				return document;
+			})
+			.collect(Collectors.toList());
+	}
+
+	private List<Document> toPostingDocuments(List<Posting> postings, long generation) {
+		if (postings.isEmpty()) {
+			return List.of();
+		}
+
+		Set<Long> postingIds = postings.stream().map(Posting::getId).collect(Collectors.toSet());
+
+		Map<Long, List<String>> tags = postingTagRepository.findPostingTagsByPostingIdInAndStatus(postingIds, USED)
+			.stream()
+			.collect(Collectors.groupingBy(PostingTag::getPostingId,
+				Collectors.mapping(PostingTag::getName, Collectors.toList())));
+
+		Map<Long, String> firstImageUrls = postingImageRepository.findPostingImagesByPostingIdInAndStatus(
+				postingIds, USED)
+			.stream()
+			.sorted(Comparator.comparing(PostingImage::getId))
+			.collect(Collectors.toMap(PostingImage::getPostingId, PostingImage::getImageUrl,
+				(first, second) -> first));
+
+		return postings.stream()
+			.map(posting -> {
+				Document document = baseDocument(POST, posting.getId(), generation,
+					tags.getOrDefault(posting.getId(), List.of()), firstImageUrls.get(posting.getId()));
+				addText(document, SearchFields.TITLE, posting.getTitle());
+				addText(document, SearchFields.CONTENT, posting.getContent());
+				return document;
+			})
+			.collect(Collectors.toList());
+	}
+
+	private static Document baseDocument(SearchDocumentType type, Long id, long generation, List<String> tags,
+		String imageUrl) {
+		Document document = new Document();
+		document.add(new StringField(SearchFields.UID, LuceneSearchIndex.uid(type, id), Field.Store.NO));
+		document.add(new StringField(SearchFields.TYPE, type.toString(), Field.Store.NO));
+		document.add(new StoredField(SearchFields.ID, id));
+		document.add(new NumericDocValuesField(SearchFields.ID, id));
+		document.add(new LongPoint(SearchFields.GENERATION, generation));
+		tags.forEach(tag -> document.add(new StringField(SearchFields.TAG, tag, Field.Store.NO)));
+		document.add(new StoredField(SearchFields.IMAGE_URL, imageUrl == null ? "" : imageUrl));
+		return document;
+	}
+
+	private static void addText(Document document, String field, String value) {
+		if (value != null) {
+			document.add(new TextField(field, value, Field.Store.YES));
+		}
+	}
+}
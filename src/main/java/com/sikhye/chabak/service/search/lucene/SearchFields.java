@@ -0,0 +1,24 @@
+package com.sikhye.chabak.service.search.lucene;
+
+/**
+ * Lucene 문서 필드 이름
+ */
+public final class SearchFields {
+
+	// 문서 고유 키 (type:id)
+	public static final String UID = "uid";
+	public static final String TYPE = "type";
+	public static final String ID = "id";
+	// 색인 시각, 전체 재색인 후 이전 문서 정리에 사용
+	public static final String GENERATION = "generation";
+
+	public static final String NAME = "name";
+	public static final String ADDRESS = "address";
+	public static final String TITLE = "title";
+	public static final String CONTENT = "content";
+	public static final String TAG = "tag";
+	public static final String IMAGE_URL = "imageUrl";
+
+	private SearchFields() {
+	}
+}
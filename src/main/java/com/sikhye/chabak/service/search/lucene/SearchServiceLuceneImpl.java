@@ -0,0 +1,200 @@
+package com.sikhye.chabak.service.search.lucene;
+
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+import static com.sikhye.chabak.service.search.event.SearchDocumentType.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.search.SearchService;
+import com.sikhye.chabak.service.search.constant.TagMatchType;
+import com.sikhye.chabak.service.search.dto.SearchDto;
+import com.sikhye.chabak.service.search.dto.SearchPlaceRes;
+import com.sikhye.chabak.service.search.dto.SearchPostRes;
+import com.sikhye.chabak.service.search.dto.TagFacetRes;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+import com.sikhye.chabak.service.search.tag.TagBitmapIndex;
+import com.sikhye.chabak.service.search.tag.TagQuery;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내장 Lucene 검색 (search.engine=lucene)
+ * 응답에 필요한 값은 모두 인덱스에 저장되어 있어 검색 시 DB 를 조회하지 않는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "lucene")
+public class SearchServiceLuceneImpl implements SearchService {
+
+	// 이름/제목에 일치하면 주소/내용보다 높은 점수
+	private static final Map<String, Float> PLACE_FIELD_BOOSTS = Map.of(
+		SearchFields.NAME, 2.0f,
+		SearchFields.ADDRESS, 1.0f);
+	private static final Map<String, Float> POST_FIELD_BOOSTS = Map.of(
+		SearchFields.TITLE, 2.0f,
+		SearchFields.CONTENT, 1.0f);
+
+	private final LuceneSearchIndex searchIndex;
+	private final LuceneSearchIndexer searchIndexer;
+	private final TagBitmapIndex tagBitmapIndex;
+	private final QueryBuilder queryBuilder;
+
+	public SearchServiceLuceneImpl(LuceneSearchIndex searchIndex, LuceneSearchIndexer searchIndexer,
+		TagBitmapIndex tagBitmapIndex) {
+		this.searchIndex = searchIndex;
+		this.searchIndexer = searchIndexer;
+		this.tagBitmapIndex = tagBitmapIndex;
+		this.queryBuilder = new QueryBuilder(searchIndex.getAnalyzer());
+	}
+
+	@Override
+	public SearchDto searchBy(String keyword, int page, int size) {
+		Query placeQuery = keywordQuery(PLACE, keyword, PLACE_FIELD_BOOSTS);
+		Query postQuery = keywordQuery(POST, keyword, POST_FIELD_BOOSTS);
+
+		return search(placeQuery, postQuery, page, size, Sort.RELEVANCE);
+	}
+
+	@Override
+	public SearchDto searchByTags(TagQuery tagQuery, int page, int size) {
+		if (tagQuery.isEmpty()) {
+			return search(null, null, page, size, Sort.INDEXORDER);
+		}
+
+		BooleanClause.Occur occur = tagQuery.getMatchType() == TagMatchType.ALL ? BooleanClause.Occur.MUST :
+			BooleanClause.Occur.SHOULD;
+		BooleanQuery.Builder query = new BooleanQuery.Builder();
+		tagQuery.getTags().forEach(tag -> query.add(new TermQuery(new Term(SearchFields.TAG, tag)), occur));
+		tagQuery.getExcludedTags().forEach(tag ->
+			query.add(new TermQuery(new Term(SearchFields.TAG, tag)), BooleanClause.Occur.MUST_NOT));
+
+		return search(typeQuery(PLACE, query.build()), typeQuery(POST, query.build()), page, size,
+			new Sort(new SortField(SearchFields.ID, SortField.Type.LONG, true)));
+	}
+
+	@Override
+	public TagFacetRes findTagFacets(TagQuery tagQuery, int limit) {
+		return tagBitmapIndex.findFacets(tagQuery, limit);
+	}
+
+	@Override
+	public long rebuildIndex() {
+		return searchIndexer.rebuild();
+	}
+
+	@Override
+	public void syncDocuments(SearchDocumentType type, Collection<Long> usedIds, Collection<Long> deletedIds) {
+		searchIndexer.sync(type, usedIds, deletedIds);
+	}
+
+	@Override
+	public String getIndexId() {
+		return searchIndex.getIndexId();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private SearchDto search(Query placeQuery, Query postQuery, int page, int size, Sort sort) {
+		// 큰 page 로 int 범위를 넘기면 음수 topN 이 되므로 미리 막는다.
+		long requested = ((long)page + 1) * size;
+		if (page < 0 || size < 1 || requested > Integer.MAX_VALUE) {
+			throw new BaseException(INVALID_PAGE);
+		}
+		int topN = (int)requested;
+
+		try {
+			IndexSearcher searcher = searchIndex.acquire();
+			try {
+				List<SearchPlaceRes> places = placeQuery == null ? List.of() :
+					pageOf(searcher, placeQuery, topN, page * size, sort).stream()
+						.map(document -> SearchPlaceRes.builder()
+							.id(document.getField(SearchFields.ID).numericValue().longValue())
+							.name(document.get(SearchFields.NAME))
+							.address(document.get(SearchFields.ADDRESS))
+							.imageUrl(document.get(SearchFields.IMAGE_URL))
+							.build())
+						.collect(Collectors.toList());
+
+				List<SearchPostRes> posts = postQuery == null ? List.of() :
+					pageOf(searcher, postQuery, topN, page * size, sort).stream()
+						.map(document -> SearchPostRes.builder()
+							.id(document.getField(SearchFields.ID).numericValue().longValue())
+							.title(document.get(SearchFields.TITLE))
+							.content(document.get(SearchFields.CONTENT))
+							.imageUrl(document.get(SearchFields.IMAGE_URL))
+							.build())
+						.collect(Collectors.toList());
+
+				return SearchDto.builder()
+					.places(places)
+					.posts(posts)
+					.build();
+			} finally {
+				searchIndex.release(searcher);
+			}
+		} catch (IOException e) {
+			log.error(">> [-] lucene search failed : {}", e.getMessage());
+			throw new BaseException(RESPONSE_ERROR);
+		}
+	}
+
+	private static List<Document> pageOf(IndexSearcher searcher, Query query, int topN, int offset, Sort sort) throws
+		IOException {
+		ScoreDoc[] scoreDocs = searcher.search(query, topN, sort).scoreDocs;
+
+		List<Document> documents = new ArrayList<>();
+		for (ScoreDoc scoreDoc : Arrays.copyOfRange(scoreDocs, Math.min(offset, scoreDocs.length),
+			scoreDocs.length)) {
+			documents.add(searcher.doc(scoreDoc.doc));
+		}
+
+		return documents;
+	}
+
+	// 필드별 형태소 분석 쿼리를 가중치와 함께 OR 로 묶는다. (분석 결과 토큰이 없으면 null)
+	private Query keywordQuery(SearchDocumentType type, String keyword, Map<String, Float> fieldBoosts) {
+		BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder();
+		boolean hasClause = false;
+
+		for (Map.Entry<String, Float> fieldBoost : fieldBoosts.entrySet()) {
+			Query fieldQuery = queryBuilder.createBooleanQuery(fieldBoost.getKey(), keyword);
+			if (fieldQuery != null) {
+				keywordQuery.add(new BoostQuery(fieldQuery, fieldBoost.getValue()), BooleanClause.Occur.SHOULD);
+				hasClause = true;
+			}
+		}
+
+		return hasClause ? typeQuery(type, keywordQuery.build()) : null;
+	}
+
+	private static Query typeQuery(SearchDocumentType type, Query query) {
+		return new BooleanQuery.Builder()
+			.add(query, BooleanClause.Occur.MUST)
+			.add(new TermQuery(new Term(SearchFields.TYPE, type.toString())), BooleanClause.Occur.FILTER)
+			.build();
+	}
+}
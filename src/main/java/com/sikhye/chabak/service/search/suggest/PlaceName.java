@@ -0,0 +1,20 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import lombok.Getter;
+
+/**
+ * 자동완성 적재용 (장소 ID, 이름, 행정구역 코드)
+ */
+@Getter
+public class PlaceName {
+
+	private final Long placeId;
+	private final String name;
+	private final String districtCode;
+
+	public PlaceName(Long placeId, String name, String districtCode) {
+		this.placeId = placeId;
+		this.name = name;
+		this.districtCode = districtCode;
+	}
+}
@@ -0,0 +1,34 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.sikhye.chabak.utils.search.HangulUtils;
+
+import lombok.Getter;
+
+/**
+ * 자동완성 항목
+ * 표시 문자열(text)과 별칭들의 자모 분해 / 초성 문자열을 접두어 트리의 키로 쓴다.
+ */
+@Getter
+public class SuggestEntry {
+
+	private final String id;
+	private final String text;
+	private final double weight;
+	private final Set<String> keys = new LinkedHashSet<>();
+
+	public SuggestEntry(String id, String text, double weight, Collection<String> aliases) {
+		this.id = id;
+		this.text = text;
+		this.weight = weight;
+
+		for (String alias : aliases) {
+			keys.add(HangulUtils.toJamo(alias));
+			keys.add(HangulUtils.toChosung(alias));
+		}
+		keys.remove("");
+	}
+}
@@ -0,0 +1,145 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.place.district.DistrictDirectory;
+import com.sikhye.chabak.service.place.domain.District;
+import com.sikhye.chabak.service.place.domain.PlaceRepository;
+import com.sikhye.chabak.service.place.view.PlaceViewCounter;
+import com.sikhye.chabak.service.post.domain.PostingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자동완성 인덱스 (장소명, 지역명, 태그명)
+ * 주기적으로 DB / views ZSET 을 읽어 종류별 접두어 트리를 새로 만들고 통째로 교체한다.
+ * - 장소 : 누적 조회수
+ * - 지역 : 소속 장소 조회수 합 + 장소 수
+ * - 태그 : 사용 횟수
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+	// 노드마다 보관할 상위 항목 수 (조회 limit 상한)
+	public static final int TOP_K = 10;
+
+	private final PlaceRepository placeRepository;
+	private final PostingRepository postingRepository;
+	private final DistrictDirectory districtDirectory;
+	private final RedisTemplate<String, String> redisTemplate;
+
+	private volatile Map<SuggestType, SuggestTrie> tries = Collections.emptyMap();
+
+	public SuggestIndex(PlaceRepository placeRepository, PostingRepository postingRepository,
+		DistrictDirectory districtDirectory, RedisTemplate<String, String> redisTemplate) {
+		this.placeRepository = placeRepository;
+		this.postingRepository = postingRepository;
+		this.districtDirectory = districtDirectory;
+		this.redisTemplate = redisTemplate;
+	}
+
+	public List<SuggestEntry> lookup(SuggestType type, String prefix, int limit) {
+		return tries.getOrDefault(type, SuggestTrie.EMPTY).lookup(prefix, limit);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${search.suggest.refresh-ms:300000}",
+		initialDelayString = "${search.suggest.refresh-ms:300000}")
+	public synchronized void refresh() {
+		try {
+			Map<Long, Double> placeViews = findPlaceViews();
+			List<PlaceName> placeNames = placeRepository.findPlaceNames();
+
+			Map<SuggestType, SuggestTrie> next = new EnumMap<>(SuggestType.class);
+			next.put(SuggestType.PLACE, SuggestTrie.build(toPlaceEntries(placeNames, placeViews), TOP_K));
+			next.put(SuggestType.REGION, SuggestTrie.build(toRegionEntries(placeNames, placeViews), TOP_K));
+			next.put(SuggestType.TAG, SuggestTrie.build(toTagEntries(), TOP_K));
+			tries = next;
+
+			log.info(">> [+] suggest index loaded : {} places", placeNames.size());
+		} catch (Exception e) {
+			// 갱신에 실패하면 이전 인덱스를 그대로 사용한다.
+			log.error(">> [-] suggest index refresh failed : {}", e.getMessage());
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private List<SuggestEntry> toPlaceEntries(List<PlaceName> placeNames, Map<Long, Double> placeViews) {
+		return placeNames.stream()
+			.filter(placeName -> placeName.getName() != null)
+			.map(placeName -> new SuggestEntry(placeName.getPlaceId().toString(), placeName.getName(),
+				placeViews.getOrDefault(placeName.getPlaceId(), 0.0), List.of(placeName.getName())))
+			.collect(Collectors.toList());
+	}
+
+	private List<SuggestEntry> toRegionEntries(List<PlaceName> placeNames, Map<Long, Double> placeViews) {
+		Map<String, Double> districtWeights = new HashMap<>();
+		for (PlaceName placeName : placeNames) {
+			if (placeName.getDistrictCode() != null) {
+				districtWeights.merge(placeName.getDistrictCode(),
+					1 + placeViews.getOrDefault(placeName.getPlaceId(), 0.0), Double::sum);
+			}
+		}
+
+		List<SuggestEntry> entries = new ArrayList<>();
+		for (District district : districtDirectory.getDistricts()) {
+			String region2Depth = district.getRegion2Depth() == null ? "" : district.getRegion2Depth();
+			String text = (district.getRegion1Depth() + " " + region2Depth).trim();
+
+			// "강남구", "서울특별시 강남구" 모두 접두어로 찾는다.
+			List<String> aliases = region2Depth.isEmpty() ? List.of(text) : List.of(text, region2Depth);
+			entries.add(new SuggestEntry(district.getCode(), text,
+				districtWeights.getOrDefault(district.getCode(), 0.0), aliases));
+		}
+
+		return entries;
+	}
+
+	private List<SuggestEntry> toTagEntries() {
+		Map<String, Long> tagCounts = new HashMap<>();
+		placeRepository.findPlaceTagTargets().forEach(tag -> tagCounts.merge(tag.getName(), 1L, Long::sum));
+		postingRepository.findPostingTagTargets().forEach(tag -> tagCounts.merge(tag.getName(), 1L, Long::sum));
+
+		return tagCounts.entrySet().stream()
+			.map(tagCount -> new SuggestEntry(null, tagCount.getKey(), tagCount.getValue(),
+				List.of(tagCount.getKey())))
+			.collect(Collectors.toList());
+	}
+
+	// placeId -> 누적 조회수 (Redis 장애 시 가중치 없이 적재)
+	private Map<Long, Double> findPlaceViews() {
+		try {
+			Set<ZSetOperations.TypedTuple<String>> views = redisTemplate.opsForZSet()
+				.rangeWithScores(PlaceViewCounter.VIEWS_KEY, 0, -1);
+			if (views == null) {
+				return Collections.emptyMap();
+			}
+
+			return views.stream()
+				.filter(view -> view.getValue() != null && view.getScore() != null)
+				.collect(Collectors.toMap(view -> Long.parseLong(view.getValue()), ZSetOperations.TypedTuple::getScore,
+					Double::sum));
+		} catch (Exception e) {
+			log.warn(">> [-] suggest views load failed : {}", e.getMessage());
+			return Collections.emptyMap();
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import com.sikhye.chabak.service.search.dto.SuggestRes;
+
+public interface SuggestService {
+
+	// 접두어 자동완성 (장소명, 지역명, 태그명 / 자모, 초성 일치)
+	SuggestRes suggest(String q, int limit);
+}
@@ -0,0 +1,55 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.sikhye.chabak.service.search.dto.SuggestItemRes;
+import com.sikhye.chabak.service.search.dto.SuggestRes;
+import com.sikhye.chabak.utils.search.HangulUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Service
+public class SuggestServiceImpl implements SuggestService {
+
+	private final SuggestIndex suggestIndex;
+	private final Timer suggestTimer;
+
+	public SuggestServiceImpl(SuggestIndex suggestIndex, MeterRegistry meterRegistry) {
+		this.suggestIndex = suggestIndex;
+		this.suggestTimer = Timer.builder("search.suggest")
+			.description("자동완성 조회 시간")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public SuggestRes suggest(String q, int limit) {
+		return suggestTimer.record(() -> {
+			String prefix = q == null ? "" : HangulUtils.toJamo(q.trim());
+			if (prefix.isEmpty() || limit <= 0) {
+				return new SuggestRes(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+			}
+
+			int size = Math.min(limit, SuggestIndex.TOP_K);
+			return new SuggestRes(
+				find(SuggestType.PLACE, prefix, size),
+				find(SuggestType.REGION, prefix, size),
+				find(SuggestType.TAG, prefix, size));
+		});
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private List<SuggestItemRes> find(SuggestType type, String prefix, int size) {
+		return suggestIndex.lookup(type, prefix, size).stream()
+			.map(entry -> new SuggestItemRes(entry.getId(), entry.getText()))
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,132 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 자동완성 접두어 트리 (불변)
+ * 자식은 정렬된 char 배열로 압축해 두고, 노드마다 가중치 상위 topK 개 항목을 미리 계산해 둔다.
+ * 조회 비용은 접두어 길이 + topK 로, 후보 수와 무관하다.
+ * MAX_KEY_LENGTH 보다 긴 접두어는 해당 깊이 노드의 상위 topK 안에서만 거르므로 결과가 limit 보다 적을 수 있다.
+ */
+public final class SuggestTrie {
+
+	// 이보다 긴 키는 앞부분만 색인한다. (더 긴 접두어는 조회 시 키와 직접 비교)
+	private static final int MAX_KEY_LENGTH = 40;
+
+	private static final char[] NO_LABELS = new char[0];
+	private static final Node[] NO_CHILDREN = new Node[0];
+	private static final SuggestEntry[] NO_ENTRIES = new SuggestEntry[0];
+
+	public static final SuggestTrie EMPTY = build(Collections.emptyList(), 0);
+
+	private final Node root;
+
+	private SuggestTrie(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * @param entries 색인할 항목
+	 * @param topK    노드마다 보관할 최대 항목 수 (조회 limit 의 상한)
+	 */
+	public static SuggestTrie build(List<SuggestEntry> entries, int topK) {
+		List<SuggestEntry> sorted = new ArrayList<>(entries);
+		// 가중치 순으로 넣으면 노드의 상위 목록이 자연히 정렬된 채로 채워진다.
+		sorted.sort(Comparator.comparingDouble(SuggestEntry::getWeight).reversed()
+			.thenComparingInt(entry -> entry.getText().length())
+			.thenComparing(SuggestEntry::getText));
+
+		BuilderNode root = new BuilderNode();
+		for (SuggestEntry entry : sorted) {
+			for (String key : entry.getKeys()) {
+				BuilderNode node = root;
+				for (int i = 0; i < Math.min(key.length(), MAX_KEY_LENGTH); i++) {
+					node = node.children.computeIfAbsent(key.charAt(i), c -> new BuilderNode());
+					// 같은 항목의 다른 키(초성/자모)가 같은 노드를 지나도 한 번만
+					if (node.top.size() < topK && !node.top.contains(entry)) {
+						node.top.add(entry);
+					}
+				}
+			}
+		}
+
+		return new SuggestTrie(root.freeze());
+	}
+
+	/**
+	 * @param prefix 자모 분해된 접두어
+	 * @param limit  최대 개수
+	 * @return 가중치 역순 항목
+	 */
+	public List<SuggestEntry> lookup(String prefix, int limit) {
+		if (prefix.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Node node = root;
+		for (int i = 0; i < Math.min(prefix.length(), MAX_KEY_LENGTH); i++) {
+			int index = Arrays.binarySearch(node.labels, prefix.charAt(i));
+			if (index < 0) {
+				return Collections.emptyList();
+			}
+			node = node.children[index];
+		}
+
+		if (prefix.length() <= MAX_KEY_LENGTH) {
+			return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+		}
+
+		// 트리가 앞 MAX_KEY_LENGTH 자만 구분하므로 나머지는 항목의 키로 거른다.
+		List<SuggestEntry> matched = new ArrayList<>();
+		for (SuggestEntry entry : node.top) {
+			if (matched.size() >= limit) {
+				break;
+			}
+			if (entry.getKeys().stream().anyMatch(key -> key.startsWith(prefix))) {
+				matched.add(entry);
+			}
+		}
+
+		return matched;
+	}
+
+	private static final class Node {
+		private final char[] labels;
+		private final Node[] children;
+		private final SuggestEntry[] top;
+
+		private Node(char[] labels, Node[] children, SuggestEntry[] top) {
+			this.labels = labels;
+			this.children = children;
+			this.top = top;
+		}
+	}
+
+	private static final class BuilderNode {
+		private final Map<Character, BuilderNode> children = new TreeMap<>();
+		private final List<SuggestEntry> top = new ArrayList<>();
+
+		private Node freeze() {
+			if (children.isEmpty()) {
+				return new Node(NO_LABELS, NO_CHILDREN, top.toArray(NO_ENTRIES));
+			}
+
+			char[] labels = new char[children.size()];
+			Node[] frozen = new Node[children.size()];
+			int i = 0;
+			for (Map.Entry<Character, BuilderNode> child : children.entrySet()) {
+				labels[i] = child.getKey();
+				frozen[i] = child.getValue().freeze();
+				i++;
+			}
+
+			return new Node(labels, frozen, top.toArray(NO_ENTRIES));
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.sikhye.chabak.service.search.suggest;
+
+public enum SuggestType {
+	PLACE,
+	REGION,
+	TAG
+}
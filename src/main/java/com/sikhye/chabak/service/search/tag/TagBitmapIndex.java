@@ -0,0 +1,423 @@
+package com.sikhye.chabak.service.search.tag;
+
+import static com.sikhye.chabak.global.constant.BaseStatus.*;
+import static com.sikhye.chabak.service.search.event.SearchDocumentType.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.IntIterator;
+import javax.annotation.PostConstruct;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sikhye.chabak.service.place.domain.PlaceRepository;
+import com.sikhye.chabak.service.place.domain.PlaceTag;
+import com.sikhye.chabak.service.place.domain.PlaceTagRepository;
+import com.sikhye.chabak.service.post.domain.PostingRepository;
+import com.sikhye.chabak.service.post.domain.PostingTag;
+import com.sikhye.chabak.service.post.domain.PostingTagRepository;
+import com.sikhye.chabak.service.search.constant.TagMatchType;
+import com.sikhye.chabak.service.search.dto.TagCountRes;
+import com.sikhye.chabak.service.search.dto.TagFacetRes;
+import com.sikhye.chabak.service.search.event.SearchDocumentChangedEvent;
+import com.sikhye.chabak.service.search.event.SearchDocumentType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 태그 역색인 (태그명 -> 장소/게시글 ID RoaringBitmap)
+ * 기동 시와 주기적으로(search.tag.rebuild-ms) 전체 적재하고, 쓰기 경로의 SearchDocumentChangedEvent 를 커밋 후 받아
+ * 해당 대상의 태그만 다시 읽는다. 변경은 pub/sub 으로 다른 인스턴스에도 알려 같은 대상을 다시 읽게 한다.
+ * AND / OR / NOT 조합과 태그별 건수(facet)를 DB 조회 없이 비트맵 연산으로 계산한다.
+ */
+@Slf4j
+@Component
+public class TagBitmapIndex implements MessageListener {
+
+	private static final String RELOAD_TOPIC = "tag-index-reload";
+
+	// 자신이 보낸 메시지는 이미 반영했으므로 건너뛴다.
+	private final String instanceId = UUID.randomUUID().toString();
+
+	private final PlaceRepository placeRepository;
+	private final PlaceTagRepository placeTagRepository;
+	private final PostingRepository postingRepository;
+	private final PostingTagRepository postingTagRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Map<SearchDocumentType, TagPostings> indexes = new ConcurrentHashMap<>();
+	// 재적재 중 들어온 변경 (적재가 끝난 뒤 다시 반영)
+	private final Map<SearchDocumentType, Set<Long>> pendingIds = new EnumMap<>(SearchDocumentType.class);
+
+	private volatile boolean building = false;
+	private volatile boolean ready = false;
+
+	public TagBitmapIndex(PlaceRepository placeRepository, PlaceTagRepository placeTagRepository,
+		PostingRepository postingRepository, PostingTagRepository postingTagRepository,
+		RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer) {
+		this.placeRepository = placeRepository;
+		this.placeTagRepository = placeTagRepository;
+		this.postingRepository = postingRepository;
+		this.postingTagRepository = postingTagRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+
+		for (SearchDocumentType type : SearchDocumentType.values()) {
+			pendingIds.put(type, ConcurrentHashMap.newKeySet());
+		}
+	}
+
+	@PostConstruct
+	public void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(RELOAD_TOPIC));
+	}
+
+	// 주기적 재적재는 변경 알림을 놓친 경우의 보정용
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${search.tag.rebuild-ms:3600000}",
+		initialDelayString = "${search.tag.rebuild-ms:3600000}")
+	public synchronized void rebuild() {
+		building = true;
+		pendingIds.values().forEach(Set::clear);
+
+		TagPostings places;
+		TagPostings posts;
+		try {
+			places = load(placeRepository.findPlaceIdsByStatus(USED), placeRepository.findPlaceTagTargets());
+			posts = load(postingRepository.findPostingIdsByStatus(USED), postingRepository.findPostingTagTargets());
+
+			indexes.put(PLACE, places);
+			indexes.put(POST, posts);
+		} catch (Exception e) {
+			log.error(">> [-] tag index rebuild failed : {}", e.getMessage());
+			return;
+		} finally {
+			building = false;
+		}
+
+		pendingIds.forEach((type, ids) -> ids.forEach(id -> reload(type, id)));
+
+		ready = true;
+		log.info(">> [+] tag index loaded : {} place tags, {} posting tags", places.tagCount(), posts.tagCount());
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public void onDocumentChanged(SearchDocumentChangedEvent event) {
+		reloadOrDefer(event.getType(), event.getId());
+
+		try {
+			redisTemplate.convertAndSend(RELOAD_TOPIC, event.getType().name() + ":" + event.getId() + ":" + instanceId);
+		} catch (Exception e) {
+			// 다른 인스턴스는 다음 주기 재적재(search.tag.rebuild-ms) 때 반영된다.
+			log.error(">> [-] tag index reload publish failed : {}", e.getMessage());
+		}
+	}
+
+	// 다른 인스턴스의 변경 알림 ({type}:{id}:{instanceId})
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = redisTemplate.getStringSerializer().deserialize(message.getBody());
+		if (body == null) {
+			return;
+		}
+
+		String[] parts = body.split(":", 3);
+		if (parts.length != 3 || instanceId.equals(parts[2])) {
+			return;
+		}
+
+		try {
+			reloadOrDefer(SearchDocumentType.valueOf(parts[0]), Long.parseLong(parts[1]));
+		} catch (Exception e) {
+			log.error(">> [-] tag index reload failed : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 태그 조건에 맞는 ID (ID 역순)
+	 *
+	 * @param offset 건너뛸 개수
+	 * @param limit  최대 개수
+	 */
+	public List<Long> findIds(SearchDocumentType type, TagQuery tagQuery, long offset, int limit) {
+		RoaringBitmap matched = match(type, tagQuery);
+
+		List<Long> ids = new ArrayList<>(Math.min(limit, matched.getCardinality()));
+		IntIterator iterator = matched.getReverseIntIterator();
+		for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+			iterator.next();
+		}
+		while (iterator.hasNext() && ids.size() < limit) {
+			ids.add((long)iterator.next());
+		}
+
+		return ids;
+	}
+
+	/**
+	 * 조건에 맞는 장소/게시글 수와, 그 대상들이 가진 태그별 건수 (건수 역순)
+	 * 조건이 비어 있으면 전체 대상 기준
+	 *
+	 * @param limit 종류별 최대 태그 수
+	 */
+	public TagFacetRes findFacets(TagQuery tagQuery, int limit) {
+		RoaringBitmap places = match(PLACE, tagQuery);
+		RoaringBitmap posts = match(POST, tagQuery);
+
+		return TagFacetRes.builder()
+			.placeCount(places.getLongCardinality())
+			.postCount(posts.getLongCardinality())
+			.placeTags(facets(PLACE, places, limit))
+			.postTags(facets(POST, posts, limit))
+			.build();
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private List<TagCountRes> facets(SearchDocumentType type, RoaringBitmap candidates, int limit) {
+		TagPostings postings = indexes.get(type);
+		if (postings == null) {
+			return Collections.emptyList();
+		}
+
+		return postings.facets(candidates, limit);
+	}
+
+	private RoaringBitmap match(SearchDocumentType type, TagQuery tagQuery) {
+		TagPostings postings = indexes.get(type);
+		if (postings == null) {
+			return new RoaringBitmap();
+		}
+
+		return postings.match(tagQuery);
+	}
+
+	private TagPostings load(List<Long> targetIds, List<TagTarget> tagTargets) {
+		TagPostings postings = new TagPostings();
+		targetIds.forEach(postings::addTarget);
+		tagTargets.forEach(tagTarget -> postings.addTag(tagTarget.getName(), tagTarget.getTargetId()));
+		postings.optimize();
+
+		return postings;
+	}
+
+	private void reloadOrDefer(SearchDocumentType type, Long targetId) {
+		if (building) {
+			pendingIds.get(type).add(targetId);
+		}
+
+		reload(type, targetId);
+	}
+
+	// 대상 하나의 태그를 DB 에서 다시 읽어 교체 (삭제된 대상은 인덱스에서 제거)
+	private void reload(SearchDocumentType type, Long targetId) {
+		TagPostings postings = indexes.get(type);
+		if (postings == null) {
+			return;
+		}
+
+		if (type == PLACE) {
+			if (placeRepository.findPlaceByIdAndStatus(targetId, USED).isEmpty()) {
+				postings.remove(targetId);
+				return;
+			}
+
+			postings.replace(targetId, placeTagRepository.findPlaceTagsByPlaceIdAndStatus(targetId, USED)
+				.orElseGet(Collections::emptyList).stream()
+				.map(PlaceTag::getName)
+				.collect(Collectors.toSet()));
+		} else {
+			if (postingRepository.findPostingByIdAndStatus(targetId, USED).isEmpty()) {
+				postings.remove(targetId);
+				return;
+			}
+
+			postings.replace(targetId, postingTagRepository.findPostingTagsByPostingIdAndStatus(targetId, USED)
+				.orElseGet(Collections::emptyList).stream()
+				.map(PostingTag::getName)
+				.collect(Collectors.toSet()));
+		}
+	}
+
+	// RoaringBitmap 은 32bit 정수만 담는다.
+	private static int toIntId(Long targetId) {
+		return Math.toIntExact(targetId);
+	}
+
+	/**
+	 * 대상 종류(장소/게시글)별 역색인
+	 * 조회는 읽기 락 안에서 새 비트맵을 만들어 반환하므로 호출자는 락 없이 결과를 사용한다.
+	 */
+	private static final class TagPostings {
+
+		private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+		private final Map<Integer, Set<String>> tagsByTarget = new HashMap<>();
+		// NOT 조건, 빈 조건의 기준이 되는 전체 대상
+		private final RoaringBitmap universe = new RoaringBitmap();
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+		private void addTarget(Long targetId) {
+			universe.add(toIntId(targetId));
+		}
+
+		private void addTag(String tagName, Long targetId) {
+			int id = toIntId(targetId);
+			bitmaps.computeIfAbsent(tagName, name -> new RoaringBitmap()).add(id);
+			tagsByTarget.computeIfAbsent(id, key -> new HashSet<>()).add(tagName);
+		}
+
+		private void optimize() {
+			bitmaps.values().forEach(RoaringBitmap::runOptimize);
+			universe.runOptimize();
+		}
+
+		private int tagCount() {
+			lock.readLock().lock();
+			try {
+				return bitmaps.size();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		private void replace(Long targetId, Set<String> tagNames) {
+			lock.writeLock().lock();
+			try {
+				removeTags(toIntId(targetId));
+				addTarget(targetId);
+				tagNames.forEach(tagName -> addTag(tagName, targetId));
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void remove(Long targetId) {
+			lock.writeLock().lock();
+			try {
+				removeTags(toIntId(targetId));
+				universe.remove(toIntId(targetId));
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void removeTags(int id) {
+			Set<String> tagNames = tagsByTarget.remove(id);
+			if (tagNames == null) {
+				return;
+			}
+
+			for (String tagName : tagNames) {
+				RoaringBitmap bitmap = bitmaps.get(tagName);
+				bitmap.remove(id);
+				if (bitmap.isEmpty()) {
+					bitmaps.remove(tagName);
+				}
+			}
+		}
+
+		private RoaringBitmap match(TagQuery tagQuery) {
+			lock.readLock().lock();
+			try {
+				RoaringBitmap matched = tagQuery.isEmpty() ? universe.clone() : matchTags(tagQuery.getTags(),
+					tagQuery.getMatchType());
+
+				for (String excludedTag : tagQuery.getExcludedTags()) {
+					RoaringBitmap excluded = bitmaps.get(excludedTag);
+					if (excluded != null) {
+						matched.andNot(excluded);
+					}
+				}
+
+				return matched;
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		private RoaringBitmap matchTags(Collection<String> tags, TagMatchType matchType) {
+			List<RoaringBitmap> tagBitmaps = new ArrayList<>(tags.size());
+			for (String tag : tags) {
+				RoaringBitmap bitmap = bitmaps.get(tag);
+				if (bitmap != null) {
+					tagBitmaps.add(bitmap);
+				} else if (matchType == TagMatchType.ALL) {
+					// 없는 태그가 하나라도 있으면 교집합은 비어 있다.
+					return new RoaringBitmap();
+				}
+			}
+
+			if (tagBitmaps.isEmpty()) {
+				return new RoaringBitmap();
+			}
+
+			if (matchType == TagMatchType.ALL) {
+				// 작은 비트맵부터 교집합을 구해 중간 결과를 작게 유지한다.
+				tagBitmaps.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+				RoaringBitmap matched = tagBitmaps.get(0).clone();
+				for (int i = 1; i < tagBitmaps.size() && !matched.isEmpty(); i++) {
+					matched.and(tagBitmaps.get(i));
+				}
+				return matched;
+			}
+
+			return RoaringBitmap.or(tagBitmaps.iterator());
+		}
+
+		private List<TagCountRes> facets(RoaringBitmap candidates, int limit) {
+			List<TagCountRes> facets = new ArrayList<>();
+
+			lock.readLock().lock();
+			try {
+				bitmaps.forEach((tagName, bitmap) -> {
+					long count = RoaringBitmap.andCardinality(bitmap, candidates);
+					if (count > 0) {
+						facets.add(new TagCountRes(tagName, count));
+					}
+				});
+			} finally {
+				lock.readLock().unlock();
+			}
+
+			return facets.stream()
+				.sorted(Comparator.comparing(TagCountRes::getCount).reversed()
+					.thenComparing(TagCountRes::getName))
+				.limit(limit)
+				.collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.sikhye.chabak.service.search.tag;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.sikhye.chabak.service.search.constant.TagMatchType;
+
+import lombok.Getter;
+
+/**
+ * 태그 검색 조건
+ * tags 를 matchType(OR / AND) 으로 결합하고, excludedTags 중 하나라도 가진 대상은 제외한다.
+ */
+@Getter
+public class TagQuery {
+
+	private final Set<String> tags;
+	private final TagMatchType matchType;
+	private final Set<String> excludedTags;
+
+	public TagQuery(Collection<String> tags, TagMatchType matchType, Collection<String> excludedTags) {
+		this.tags = tags == null ? Collections.emptySet() : new LinkedHashSet<>(tags);
+		this.matchType = matchType;
+		this.excludedTags = excludedTags == null ? Collections.emptySet() : new LinkedHashSet<>(excludedTags);
+	}
+
+	public boolean isEmpty() {
+		return tags.isEmpty();
+	}
+}
@@ -0,0 +1,18 @@
+package com.sikhye.chabak.service.search.tag;
+
+import lombok.Getter;
+
+/**
+ * 태그 인덱스 적재용 (태그명, 장소/게시글 ID)
+ */
+@Getter
+public class TagTarget {
+
+	private final String name;
+	private final Long targetId;
+
+	public TagTarget(String name, Long targetId) {
+		this.name = name;
+		this.targetId = targetId;
+	}
+}
@@ -0,0 +1,262 @@
+package com.sikhye.chabak.service.sms.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.sms.dto.MessagesRequestDto;
+import com.sikhye.chabak.service.sms.event.SmsDroppedEvent;
+import com.sikhye.chabak.service.sms.gateway.SmsGateway;
+import com.sikhye.chabak.service.sms.gateway.SmsSendException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SMS 비동기 발송 큐
+ * 요청 스레드는 제한된 크기의 큐에 넣고 바로 돌아가며, 발송 스레드가 쌓인 메시지를 최대 batch-size 개씩
+ * 묶어 한 번의 SENS 요청으로 보낸다. 일시적인 실패는 지수 백오프로 재시도하고, 큐가 가득 차면 접수를 거절한다.
+ * 발송을 포기한 메시지는 SmsDroppedEvent 로 알린다.
+ */
+@Slf4j
+@Component
+public class SmsDispatcher {
+
+	// 큐가 빌 때 종료 여부를 확인하는 주기
+	private static final long POLL_TIMEOUT_MS = 500;
+
+	private final SmsGateway smsGateway;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final long backoffMs;
+	private final long shutdownTimeoutMs;
+
+	private final BlockingQueue<SmsMessage> queue;
+	private final List<Thread> workers = new ArrayList<>();
+	private final ScheduledThreadPoolExecutor retryScheduler;
+	// 백오프 대기 중인 재시도 (종료 시 발송하지 못한 건으로 처리)
+	private final Set<SmsMessage> pendingRetries = ConcurrentHashMap.newKeySet();
+
+	private final Timer queueWait;
+	private final Timer sendLatency;
+	private final DistributionSummary batchSizes;
+	private final Counter sent;
+	private final Counter retried;
+	private final Counter isolated;
+	private final Counter failed;
+	private final Counter rejected;
+
+	private volatile boolean running = true;
+
+	public SmsDispatcher(SmsGateway smsGateway, ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+		@Value("${sms.queue-capacity:1000}") int queueCapacity,
+		@Value("${sms.workers:2}") int workerCount,
+		@Value("${sms.batch-size:" + SmsGateway.MAX_BATCH_SIZE + "}") int batchSize,
+		@Value("${sms.max-attempts:4}") int maxAttempts,
+		@Value("${sms.backoff-ms:500}") long backoffMs,
+		@Value("${sms.shutdown-timeout-ms:5000}") long shutdownTimeoutMs) {
+		this.smsGateway = smsGateway;
+		this.eventPublisher = eventPublisher;
+		this.batchSize = Math.min(Math.max(batchSize, 1), SmsGateway.MAX_BATCH_SIZE);
+		this.maxAttempts = maxAttempts;
+		this.backoffMs = backoffMs;
+		this.shutdownTimeoutMs = shutdownTimeoutMs;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		Gauge.builder("sms.queue.depth", queue, BlockingQueue::size)
+			.description("발송 대기 중인 SMS 수")
+			.register(meterRegistry);
+		queueWait = Timer.builder("sms.queue.wait")
+			.description("접수부터 발송 완료까지 걸린 시간")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		sendLatency = Timer.builder("sms.send.latency")
+			.description("SMS 발송 API 호출 시간")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		batchSizes = DistributionSummary.builder("sms.batch.size")
+			.description("발송 요청 한 번에 담긴 수신자 수")
+			.register(meterRegistry);
+		sent = messageCounter(meterRegistry, "sent");
+		retried = messageCounter(meterRegistry, "retried");
+		isolated = messageCounter(meterRegistry, "isolated");
+		failed = messageCounter(meterRegistry, "failed");
+		rejected = messageCounter(meterRegistry, "rejected");
+
+		retryScheduler = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("sms-retry-"));
+		for (int i = 0; i < Math.max(workerCount, 1); i++) {
+			Thread worker = new Thread(this::work, "sms-worker-" + (i + 1));
+			worker.setDaemon(true);
+			worker.start();
+			workers.add(worker);
+		}
+	}
+
+	/**
+	 * 발송 접수 (블로킹하지 않음)
+	 *
+	 * @return 큐가 가득 차 접수하지 못하면 false
+	 */
+	public boolean enqueue(String to, String content) {
+		if (!running || !queue.offer(new SmsMessage(to, content))) {
+			rejected.increment();
+			return false;
+		}
+		return true;
+	}
+
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		retryScheduler.shutdownNow();
+
+		// 예약된 재시도가 먼저 가져가지 않은 건만 (remove 가 성공한 쪽이 처리)
+		for (SmsMessage message : pendingRetries) {
+			if (pendingRetries.remove(message)) {
+				drop(message);
+			}
+		}
+
+		// 발송 스레드가 남은 메시지를 비울 때까지 기다린다.
+		long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+		for (Thread worker : workers) {
+			try {
+				worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		List<SmsMessage> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			log.warn(">> [-] sms shutdown timeout, dropped {} messages", remaining.size());
+			remaining.forEach(this::drop);
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void work() {
+		List<SmsMessage> batch = new ArrayList<>(batchSize);
+
+		// 종료 요청 후에도 큐에 남은 메시지는 마저 보낸다.
+		while (running || !queue.isEmpty()) {
+			try {
+				SmsMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				dispatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error(">> [-] sms dispatch failed : {}", e.getMessage());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void dispatch(List<SmsMessage> batch) {
+		List<MessagesRequestDto> messages = batch.stream()
+			.map(message -> new MessagesRequestDto(message.getTo(), message.getContent()))
+			.collect(Collectors.toList());
+
+		batchSizes.record(batch.size());
+		long start = System.nanoTime();
+		try {
+			smsGateway.send(messages);
+		} catch (SmsSendException e) {
+			log.error(">> [-] sms send failed ({} messages, retryable={}) : {}", batch.size(), e.isRetryable(),
+				e.getMessage());
+
+			// 한 수신자(잘못된 번호 등) 때문에 요청 전체가 거절되었을 수 있으므로 한 건씩 다시 보내 해당 건만 실패시킨다.
+			if (!e.isRetryable() && batch.size() > 1) {
+				isolated.increment(batch.size());
+				batch.forEach(message -> dispatch(List.of(message)));
+				return;
+			}
+
+			batch.forEach(message -> retryOrDrop(message, e.isRetryable()));
+			return;
+		} finally {
+			sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+
+		long now = System.nanoTime();
+		for (SmsMessage message : batch) {
+			queueWait.record(now - message.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+		}
+		sent.increment(batch.size());
+	}
+
+	private void retryOrDrop(SmsMessage message, boolean retryable) {
+		if (!retryable || message.getAttempt() >= maxAttempts || !running) {
+			drop(message);
+			return;
+		}
+
+		// backoff-ms * 2^(attempt-1) + 최대 20% 지터 (동시에 실패한 메시지가 한꺼번에 몰리지 않도록)
+		long delay = backoffMs << (message.getAttempt() - 1);
+		delay += ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+
+		retried.increment();
+		pendingRetries.add(message);
+		retryScheduler.schedule(() -> {
+			if (!pendingRetries.remove(message)) {
+				return;
+			}
+			if (!queue.offer(message.nextAttempt())) {
+				log.warn(">> [-] sms retry dropped, queue is full");
+				drop(message);
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void drop(SmsMessage message) {
+		failed.increment();
+		try {
+			eventPublisher.publishEvent(new SmsDroppedEvent(message.getTo()));
+		} catch (Exception e) {
+			log.error(">> [-] sms dropped event failed : {}", e.getMessage());
+		}
+	}
+
+	private static Counter messageCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("sms.messages")
+			.description("결과별 SMS 메시지 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
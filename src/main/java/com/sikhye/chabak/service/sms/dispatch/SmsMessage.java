@@ -0,0 +1,31 @@
+package com.sikhye.chabak.service.sms.dispatch;
+
+import lombok.Getter;
+
+/**
+ * 발송 대기 메시지 (재시도 시 attempt 를 올린 새 인스턴스로 다시 넣는다.)
+ */
+@Getter
+public class SmsMessage {
+
+	private final String to;
+	private final String content;
+	private final long enqueuedAtNanos;
+	private final int attempt;
+
+	public SmsMessage(String to, String content) {
+		this(to, content, System.nanoTime(), 1);
+	}
+
+	private SmsMessage(String to, String content, long enqueuedAtNanos, int attempt) {
+		this.to = to;
+		this.content = content;
+		this.enqueuedAtNanos = enqueuedAtNanos;
+		this.attempt = attempt;
+	}
+
+	// 대기 시간은 최초 요청 시점부터 잰다.
+	public SmsMessage nextAttempt() {
+		return new SmsMessage(to, content, enqueuedAtNanos, attempt + 1);
+	}
+}
@@ -0,0 +1,23 @@
+package com.sikhye.chabak.service.sms.dto;
+
+import lombok.Getter;
+
+@Getter
+public class VerificationCodeStatsRes {
+
+	// 발급되어 만료 전인 인증 코드 수
+	private long codeCount;
+	// 실패 횟수를 기록 중인(잠금 포함) 휴대폰 번호 수
+	private long attemptCount;
+	// 두 종류 키의 메모리 사용량 합 (MEMORY USAGE, byte)
+	private long memoryBytes;
+
+	public VerificationCodeStatsRes() {
+	}
+
+	public VerificationCodeStatsRes(long codeCount, long attemptCount, long memoryBytes) {
+		this.codeCount = codeCount;
+		this.attemptCount = attemptCount;
+		this.memoryBytes = memoryBytes;
+	}
+}
@@ -0,0 +1,17 @@
+package com.sikhye.chabak.service.sms.event;
+
+import lombok.Getter;
+
+/**
+ * 발송을 포기한 SMS (재시도 불가 오류, 재시도 소진, 재시도 시 큐 가득 참)
+ * 인증 코드 저장소가 받아, 받지 못한 코드 때문에 재요청이 막히지 않도록 코드를 폐기한다.
+ */
+@Getter
+public class SmsDroppedEvent {
+
+	private final String to;
+
+	public SmsDroppedEvent(String to) {
+		this.to = to;
+	}
+}
@@ -0,0 +1,127 @@
+package com.sikhye.chabak.service.sms.gateway;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sikhye.chabak.global.config.SmsConfigProperties;
+import com.sikhye.chabak.service.sms.dto.MessagesRequestDto;
+import com.sikhye.chabak.service.sms.dto.SmsRequestDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 클라우드 SENS 발송 (sms.gateway=sens, 기본값)
+ * HTTP 클라이언트(keep-alive 연결 재사용)와 ObjectMapper 는 공유하고, 서명용 Mac 은 발송 스레드마다 한 번만 초기화한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.gateway", havingValue = "sens", matchIfMissing = true)
+public class SensSmsGateway implements SmsGateway {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private final SmsConfigProperties smsConfigProperties;
+	private final ObjectMapper objectMapper;
+	private final HttpClient httpClient;
+	private final Duration requestTimeout;
+	private final String path;
+	private final URI uri;
+
+	// Mac 은 스레드 안전하지 않으므로 발송 스레드마다 하나씩
+	private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
+
+	public SensSmsGateway(SmsConfigProperties smsConfigProperties, ObjectMapper objectMapper,
+		@Value("${sms.sens.base-url:https://sens.apigw.ntruss.com}") String baseUrl,
+		@Value("${sms.sens.timeout-ms:5000}") long timeoutMs) {
+		this.smsConfigProperties = smsConfigProperties;
+		this.objectMapper = objectMapper;
+		this.requestTimeout = Duration.ofMillis(timeoutMs);
+		this.httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(requestTimeout)
+			.build();
+		this.path = "/sms/v2/services/" + smsConfigProperties.getServiceId() + "/messages";
+		this.uri = URI.create(baseUrl + path);
+	}
+
+	@Override
+	public void send(List<MessagesRequestDto> messages) throws SmsSendException {
+		String timestamp = String.valueOf(System.currentTimeMillis());
+
+		// 메시지별 content 가 있으면 기본 content("MangoLtd")보다 우선한다.
+		SmsRequestDto smsRequestDto = new SmsRequestDto("SMS", "COMM", "82", smsConfigProperties.getFrom(),
+			"MangoLtd", messages);
+
+		String jsonBody;
+		try {
+			jsonBody = objectMapper.writeValueAsString(smsRequestDto);
+		} catch (JsonProcessingException e) {
+			throw new SmsSendException("request serialization failed", false, e);
+		}
+
+		HttpRequest request = HttpRequest.newBuilder(uri)
+			.timeout(requestTimeout)
+			.header("Content-Type", "application/json; charset=utf-8")
+			.header("x-ncp-apigw-timestamp", timestamp)
+			.header("x-ncp-iam-access-key", smsConfigProperties.getAccessKeyId())
+			.header("x-ncp-apigw-signature-v2", makeSignature(timestamp))
+			.POST(HttpRequest.BodyPublishers.ofString(jsonBody, StandardCharsets.UTF_8))
+			.build();
+
+		HttpResponse<String> response;
+		try {
+			response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		} catch (IOException e) {
+			throw new SmsSendException("sens request failed : " + e.getMessage(), true, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SmsSendException("sens request interrupted", true, e);
+		}
+
+		// 정상 접수 시 202
+		int status = response.statusCode();
+		if (status / 100 != 2) {
+			boolean retryable = status >= 500 || status == 429;
+			throw new SmsSendException("sens responded " + status + " : " + response.body(), retryable);
+		}
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// "POST {path}\n{timestamp}\n{accessKey}" 를 HmacSHA256 으로 서명
+	private String makeSignature(String timestamp) {
+		String message = "POST " + path + "\n" + timestamp + "\n" + smsConfigProperties.getAccessKeyId();
+		byte[] rawHmac = mac.get().doFinal(message.getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(rawHmac);
+	}
+
+	private Mac newMac() {
+		try {
+			Mac newMac = Mac.getInstance(HMAC_ALGORITHM);
+			newMac.init(new SecretKeySpec(smsConfigProperties.getSecretKey().getBytes(StandardCharsets.UTF_8),
+				HMAC_ALGORITHM));
+			return newMac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.sikhye.chabak.service.sms.gateway;
+
+import java.util.List;
+
+import com.sikhye.chabak.service.sms.dto.MessagesRequestDto;
+
+/**
+ * SMS 발송 API (한 번의 호출로 여러 수신자에게 발송)
+ */
+public interface SmsGateway {
+
+	// SENS 요청 한 번에 담을 수 있는 최대 수신자 수
+	int MAX_BATCH_SIZE = 100;
+
+	/**
+	 * @param messages 수신자별 메시지 (MAX_BATCH_SIZE 이하)
+	 * @throws SmsSendException 발송 실패 (retryable 이면 재시도 대상)
+	 */
+	void send(List<MessagesRequestDto> messages) throws SmsSendException;
+}
@@ -0,0 +1,20 @@
+package com.sikhye.chabak.service.sms.gateway;
+
+import lombok.Getter;
+
+@Getter
+public class SmsSendException extends Exception {
+
+	// 네트워크 오류, 5xx, 429 는 재시도한다.
+	private final boolean retryable;
+
+	public SmsSendException(String message, boolean retryable) {
+		super(message);
+		this.retryable = retryable;
+	}
+
+	public SmsSendException(String message, boolean retryable, Throwable cause) {
+		super(message, cause);
+		this.retryable = retryable;
+	}
+}
@@ -0,0 +1,94 @@
+package com.sikhye.chabak.service.sms.gateway;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.service.sms.dto.MessagesRequestDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 / 테스트용 발송 (sms.gateway=stub)
+ * 실제로 보내지 않고 요청 단위로 기록만 하며, 실패를 흉내 낼 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sms.gateway", havingValue = "stub")
+public class StubSmsGateway implements SmsGateway {
+
+	private final List<List<MessagesRequestDto>> sentBatches = Collections.synchronizedList(new ArrayList<>());
+	private final AtomicInteger remainingFailures = new AtomicInteger();
+	private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean retryableFailure = true;
+	private volatile CountDownLatch paused = new CountDownLatch(0);
+
+	@Override
+	public void send(List<MessagesRequestDto> messages) throws SmsSendException {
+		try {
+			paused.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SmsSendException("stub interrupted", true, e);
+		}
+
+		if (remainingFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+			throw new SmsSendException("stub failure", retryableFailure);
+		}
+
+		// SENS 와 같이 잘못된 수신자가 하나라도 있으면 요청 전체를 거절한다.
+		if (messages.stream().anyMatch(message -> rejectedRecipients.contains(message.getTo()))) {
+			throw new SmsSendException("stub rejected recipient", false);
+		}
+
+		sentBatches.add(List.copyOf(messages));
+		log.info(">> [+] stub sms sent : {} messages", messages.size());
+	}
+
+	// 다음 count 번의 호출을 실패시킨다.
+	public void failNext(int count, boolean retryable) {
+		this.retryableFailure = retryable;
+		this.remainingFailures.set(count);
+	}
+
+	// resume() 전까지 발송 호출을 멈춘다. (그동안 쌓인 메시지가 한 묶음이 된다)
+	public void pause() {
+		paused = new CountDownLatch(1);
+	}
+
+	public void resume() {
+		paused.countDown();
+	}
+
+	// 이 수신자가 포함된 요청은 재시도할 수 없는 오류로 거절한다.
+	public void rejectRecipient(String to) {
+		rejectedRecipients.add(to);
+	}
+
+	public List<List<MessagesRequestDto>> getSentBatches() {
+		synchronized (sentBatches) {
+			return List.copyOf(sentBatches);
+		}
+	}
+
+	public List<MessagesRequestDto> getSentMessages() {
+		List<MessagesRequestDto> messages = new ArrayList<>();
+		getSentBatches().forEach(messages::addAll);
+		return messages;
+	}
+
+	public void clear() {
+		sentBatches.clear();
+		remainingFailures.set(0);
+		rejectedRecipients.clear();
+		resume();
+	}
+}
@@ -0,0 +1,216 @@
+package com.sikhye.chabak.service.sms.verify;
+
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.sms.dto.VerificationCodeStatsRes;
+import com.sikhye.chabak.service.sms.entity.SmsCacheKey;
+import com.sikhye.chabak.service.sms.event.SmsDroppedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 휴대폰 인증 코드 저장소
+ * 발급과 확인을 각각 Lua 스크립트 한 번(왕복 1회)으로 처리한다.
+ * - 발급 : 잠금 확인 + SET NX EX (만료 전에는 재발급하지 않는다)
+ * - 확인 : 일치하면 코드와 실패 횟수를 함께 삭제, 틀리면 실패 횟수를 올리고 한도에 닿으면 코드를 지우고 잠근다.
+ *          잠금 시간(lockout-sec)은 잠기는 시점부터 다시 잰다.
+ * 발송을 포기한 SMS 의 코드는 폐기해, 받지 못한 코드 때문에 만료 시까지 재요청이 막히지 않게 한다.
+ */
+@Slf4j
+@Component
+public class VerificationCodeStore {
+
+	private static final String CODE_KEY_PREFIX = SmsCacheKey.SMS + "::";
+	private static final String ATTEMPT_KEY_PREFIX = SmsCacheKey.SMS + ":attempts::";
+
+	// 통계 조회 시 SCAN / MEMORY USAGE 한 번에 다룰 키 수
+	private static final int STATS_BATCH_SIZE = 500;
+
+	private static final long LOCKED = -1;
+	private static final long EXPIRED = -2;
+	private static final long VERIFIED = 0;
+
+	// KEYS[1] 인증 코드, KEYS[2] 실패 횟수 / ARGV[1] 코드, ARGV[2] 만료(초), ARGV[3] 최대 실패 횟수
+	private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+		"local attempts = tonumber(redis.call('GET', KEYS[2]) or '0') "
+			+ "if attempts >= tonumber(ARGV[3]) then return -1 end "
+			+ "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then return 1 end "
+			+ "return 0", Long.class);
+
+	// KEYS[1] 인증 코드, KEYS[2] 실패 횟수 / ARGV[1] 입력 코드, ARGV[2] 최대 실패 횟수, ARGV[3] 잠금 시간(초)
+	private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+		"local attempts = tonumber(redis.call('GET', KEYS[2]) or '0') "
+			+ "if attempts >= tonumber(ARGV[2]) then return -1 end "
+			+ "local stored = redis.call('GET', KEYS[1]) "
+			+ "if not stored then return -2 end "
+			+ "if stored == ARGV[1] then redis.call('DEL', KEYS[1], KEYS[2]) return 0 end "
+			+ "attempts = redis.call('INCR', KEYS[2]) "
+			+ "if attempts >= tonumber(ARGV[2]) then "
+			+ "redis.call('DEL', KEYS[1]) redis.call('EXPIRE', KEYS[2], ARGV[3]) return -1 end "
+			+ "if attempts == 1 then redis.call('EXPIRE', KEYS[2], ARGV[3]) end "
+			+ "return attempts", Long.class);
+
+	private static final RedisScript<Long> MEMORY_USAGE_SCRIPT = new DefaultRedisScript<>(
+		"local total = 0 "
+			+ "for _, key in ipairs(KEYS) do total = total + (redis.call('MEMORY', 'USAGE', key) or 0) end "
+			+ "return total", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long expireSec;
+	private final int maxAttempts;
+	private final long lockoutSec;
+
+	private final Counter issued;
+	private final Counter duplicated;
+	private final Counter verified;
+	private final Counter mismatched;
+	private final Counter expired;
+	private final Counter locked;
+
+	public VerificationCodeStore(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+		@Value("${sms.verify.expire-sec:" + SmsCacheKey.SMS_EXPIRE_SEC + "}") long expireSec,
+		@Value("${sms.verify.max-attempts:5}") int maxAttempts,
+		@Value("${sms.verify.lockout-sec:600}") long lockoutSec) {
+		this.redisTemplate = redisTemplate;
+		this.expireSec = expireSec;
+		this.maxAttempts = maxAttempts;
+		this.lockoutSec = lockoutSec;
+
+		issued = resultCounter(meterRegistry, "issued");
+		duplicated = resultCounter(meterRegistry, "duplicated");
+		verified = resultCounter(meterRegistry, "verified");
+		mismatched = resultCounter(meterRegistry, "mismatched");
+		expired = resultCounter(meterRegistry, "expired");
+		locked = resultCounter(meterRegistry, "locked");
+	}
+
+	/**
+	 * 인증 코드 발급
+	 *
+	 * @throws BaseException 잠긴 번호면 SMS_VERIFY_LOCKED, 만료 전 코드가 있으면 SMS_ALREADY_REQUESTED
+	 */
+	public void issue(String phoneNumber, String code) throws BaseException {
+		Long result = redisTemplate.execute(ISSUE_SCRIPT, keys(phoneNumber),
+			code, String.valueOf(expireSec), String.valueOf(maxAttempts));
+
+		if (result == null || result == LOCKED) {
+			locked.increment();
+			throw new BaseException(SMS_VERIFY_LOCKED);
+		}
+		if (result == 0) {
+			duplicated.increment();
+			throw new BaseException(SMS_ALREADY_REQUESTED);
+		}
+		issued.increment();
+	}
+
+	/**
+	 * 발급한 코드 폐기 (발송 접수 / 발송에 실패해 다시 요청할 수 있도록)
+	 */
+	public void discard(String phoneNumber) {
+		redisTemplate.delete(CODE_KEY_PREFIX + phoneNumber);
+	}
+
+	@EventListener
+	public void onSmsDropped(SmsDroppedEvent event) {
+		try {
+			discard(event.getTo());
+		} catch (Exception e) {
+			// 코드는 만료 시간(expire-sec) 이후 자연히 사라진다.
+			log.error(">> [-] verification code discard failed : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 인증 코드 확인 (일치하면 코드를 삭제하므로 한 번만 성공한다.)
+	 *
+	 * @throws BaseException 잠긴 번호면 SMS_VERIFY_LOCKED, 만료되었거나 틀리면 INVALID_VERIFY_CODE
+	 */
+	public void verify(String phoneNumber, String code) throws BaseException {
+		Long result = redisTemplate.execute(VERIFY_SCRIPT, keys(phoneNumber),
+			code, String.valueOf(maxAttempts), String.valueOf(lockoutSec));
+
+		if (result == null || result == LOCKED) {
+			locked.increment();
+			throw new BaseException(SMS_VERIFY_LOCKED);
+		}
+		if (result == EXPIRED) {
+			expired.increment();
+			throw new BaseException(INVALID_VERIFY_CODE);
+		}
+		if (result != VERIFIED) {
+			mismatched.increment();
+			throw new BaseException(INVALID_VERIFY_CODE);
+		}
+		verified.increment();
+	}
+
+	/**
+	 * 인증 코드 / 실패 횟수 키 수와 메모리 사용량 (관리자용, SCAN 으로 훑으므로 자주 호출하지 않는다.)
+	 */
+	public VerificationCodeStatsRes getStats() {
+		long[] codes = scan(CODE_KEY_PREFIX);
+		long[] attempts = scan(ATTEMPT_KEY_PREFIX);
+
+		return new VerificationCodeStatsRes(codes[0], attempts[0], codes[1] + attempts[1]);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private static List<String> keys(String phoneNumber) {
+		return List.of(CODE_KEY_PREFIX + phoneNumber, ATTEMPT_KEY_PREFIX + phoneNumber);
+	}
+
+	// {키 수, 메모리 사용량}
+	private long[] scan(String prefix) {
+		RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+		ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(STATS_BATCH_SIZE).build();
+
+		List<String> keys = redisTemplate.execute((RedisCallback<List<String>>)connection -> {
+			List<String> scanned = new ArrayList<>();
+			try (Cursor<byte[]> cursor = connection.scan(options)) {
+				cursor.forEachRemaining(rawKey -> scanned.add(serializer.deserialize(rawKey)));
+			}
+			return scanned;
+		});
+
+		if (keys == null || keys.isEmpty()) {
+			return new long[] {0, 0};
+		}
+
+		long memoryBytes = 0;
+		for (int from = 0; from < keys.size(); from += STATS_BATCH_SIZE) {
+			List<String> batch = keys.subList(from, Math.min(from + STATS_BATCH_SIZE, keys.size()));
+			Long usage = redisTemplate.execute(MEMORY_USAGE_SCRIPT, batch);
+			memoryBytes += usage == null ? 0 : usage;
+		}
+
+		return new long[] {keys.size(), memoryBytes};
+	}
+
+	private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("sms.verification")
+			.description("결과별 휴대폰 인증 코드 발급 / 확인 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,108 @@
+package com.sikhye.chabak.utils.bloom;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터 (동시 put / mightContain 가능, 삭제 불가)
+ * mightContain 이 false 면 확실히 없는 값이고, true 면 있을 수도 있는 값이다.
+ */
+public final class BloomFilter {
+
+	private static final double LN2 = Math.log(2);
+
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+	private final AtomicLong setBits = new AtomicLong();
+
+	private BloomFilter(long bitSize, int hashCount) {
+		this.words = new AtomicLongArray((int)((bitSize + 63) >>> 6));
+		this.bitSize = (long)words.length() << 6;
+		this.hashCount = hashCount;
+	}
+
+	/**
+	 * @param expectedInsertions 예상 원소 수
+	 * @param fpp                목표 오탐률 (0 ~ 1)
+	 */
+	public static BloomFilter create(long expectedInsertions, double fpp) {
+		long n = Math.max(1, expectedInsertions);
+		long bitSize = Math.max(64, (long)Math.ceil(-n * Math.log(fpp) / (LN2 * LN2)));
+		int hashCount = Math.max(1, (int)Math.round((double)bitSize / n * LN2));
+		return new BloomFilter(bitSize, hashCount);
+	}
+
+	public void put(String value) {
+		putHash(hash(value));
+	}
+
+	// 다른 인스턴스에서 계산한 hash(value) 로 추가 (값 자체를 전달하지 않기 위해)
+	public void putHash(long hash1) {
+		long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if (setBit(index)) {
+				setBits.incrementAndGet();
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(hash1 + i * hash2, bitSize);
+			if ((words.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a 64 + murmur3 finalizer (필터 크기와 무관하므로 인스턴스 간에 같은 값이 나온다.)
+	public static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return fmix64(hash);
+	}
+
+	// 현재 채워진 비트 비율로 추정한 오탐률
+	public double expectedFpp() {
+		return Math.pow((double)setBits.get() / bitSize, hashCount);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	// 새로 켠 비트면 true
+	private boolean setBit(long index) {
+		int wordIndex = (int)(index >>> 6);
+		long mask = 1L << index;
+
+		long word;
+		do {
+			word = words.get(wordIndex);
+			if ((word & mask) != 0) {
+				return false;
+			}
+		} while (!words.compareAndSet(wordIndex, word, word | mask));
+
+		return true;
+	}
+
+	private static long fmix64(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -3,11 +3,10 @@ package com.sikhye.chabak.utils.encrypt;
 import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
 
 import java.nio.charset.StandardCharsets;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
@@ -18,50 +17,71 @@ import com.sikhye.chabak.global.exception.BaseException;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * AES/CBC 암복호화
+ * Cipher 는 스레드 안전하지 않으므로 스레드마다 암호화용 / 복호화용 인스턴스를 한 번씩만 초기화해 재사용한다.
+ * (doFinal 이 끝나면 Cipher 는 init 직후 상태로 돌아가므로 매 호출 init 이 필요 없다.)
+ */
 @Slf4j
 @Component
 public class EncryptServiceAes256 implements EncryptService {
 
 	private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
 
-	private final ConfigProperties properties;
-	private final String key;
-	private final String iv;
+	private static final Base64.Encoder ENCODER = Base64.getEncoder();
+	private static final Base64.Decoder DECODER = Base64.getDecoder();
 
-	private Cipher cipher;
-	private SecretKeySpec keySpec;
-	private IvParameterSpec ivParamSpec;
+	private final SecretKeySpec keySpec;
+	private final IvParameterSpec ivParamSpec;
+
+	private final ThreadLocal<Cipher> encryptCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+	private final ThreadLocal<Cipher> decryptCipher = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
 
 	public EncryptServiceAes256(ConfigProperties properties) {
-		this.properties = properties;
-		this.key = properties.getUserInfoPasswordKey();
-		this.iv = key.substring(0, 16);
-		setCipherSpec();
+		// 기존 암호문과 호환되도록 키 / IV 모두 비밀 키의 앞 16자를 쓴다.
+		byte[] iv = properties.getUserInfoPasswordKey().substring(0, 16).getBytes();
+		this.keySpec = new SecretKeySpec(iv, "AES");
+		this.ivParamSpec = new IvParameterSpec(iv);
+
+		// 알고리즘 / 키 오류는 기동 시점에 드러나도록 한 번 만들어 본다.
+		newCipher(Cipher.ENCRYPT_MODE);
 	}
 
 	@Override
 	public String encrypt(String text) throws Exception {
-		this.cipher.init(Cipher.ENCRYPT_MODE, keySpec, ivParamSpec);
-		byte[] encrypted = this.cipher.doFinal(text.getBytes(StandardCharsets.UTF_8));
-		return Base64.getEncoder().encodeToString(encrypted);
+		try {
+			byte[] encrypted = encryptCipher.get().doFinal(text.getBytes(StandardCharsets.UTF_8));
+			return ENCODER.encodeToString(encrypted);
+		} catch (GeneralSecurityException e) {
+			// 예외가 난 Cipher 는 상태를 보장할 수 없으므로 버리고 다음 호출에서 새로 만든다.
+			encryptCipher.remove();
+			throw e;
+		}
 	}
 
 	@Override
 	public String decrypt(String cipherText) throws Exception {
-		this.cipher.init(Cipher.DECRYPT_MODE, keySpec, ivParamSpec);
-		byte[] decodedBytes = Base64.getDecoder().decode(cipherText);
-		byte[] decrypted = this.cipher.doFinal(decodedBytes);
-		return new String(decrypted, StandardCharsets.UTF_8);
+		byte[] decodedBytes = DECODER.decode(cipherText);
+		try {
+			byte[] decrypted = decryptCipher.get().doFinal(decodedBytes);
+			return new String(decrypted, StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException e) {
+			decryptCipher.remove();
+			throw e;
+		}
 	}
 
-	private void setCipherSpec() {
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private Cipher newCipher(int mode) {
 		try {
-			this.cipher = Cipher.getInstance(ALGORITHM);
-			this.keySpec = new SecretKeySpec(iv.getBytes(), "AES");
-			this.ivParamSpec = new IvParameterSpec(iv.getBytes());
-		} catch (NoSuchPaddingException | NoSuchAlgorithmException e) {
+			Cipher cipher = Cipher.getInstance(ALGORITHM);
+			cipher.init(mode, keySpec, ivParamSpec);
+			return cipher;
+		} catch (GeneralSecurityException e) {
 			throw new BaseException(AES256_NO_SUCH_SPEC);
 		}
 	}
 }
-
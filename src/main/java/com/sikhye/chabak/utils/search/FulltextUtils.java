@@ -0,0 +1,18 @@
+package com.sikhye.chabak.utils.search;
+
+/**
+ * MySQL FULLTEXT 검색어 처리
+ */
+public final class FulltextUtils {
+
+	private FulltextUtils() {
+	}
+
+	/**
+	 * BOOLEAN MODE 구문 검색어
+	 * 큰따옴표로 감싸면 내부의 +, -, * 같은 연산자는 일반 문자로 취급되고, ngram 이 연속으로 나타나는 행만 찾는다.
+	 */
+	public static String toBooleanPhrase(String keyword) {
+		return "\"" + keyword.replace('"', ' ').trim() + "\"";
+	}
+}
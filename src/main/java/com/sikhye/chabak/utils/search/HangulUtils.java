@@ -0,0 +1,84 @@
+package com.sikhye.chabak.utils.search;
+
+/**
+ * 자동완성 키 생성 (한글 자모 분해, 초성 추출)
+ * 입력 중인 음절("캠ㅍ", "고" -> "과")도 접두어로 일치하도록 겹모음/겹받침까지 낱자로 나눈다.
+ */
+public final class HangulUtils {
+
+	private static final char SYLLABLE_BEGIN = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+	private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	private static final String[] JUNG_SPLIT = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+		"ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+
+	// 0번은 받침 없음
+	private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+	private static final String[] JONG_SPLIT = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+		"ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+
+	private HangulUtils() {
+	}
+
+	/**
+	 * 자모 분해 ("캠핑 장" -> "ㅋㅐㅁㅍㅣㅇㅈㅏㅇ")
+	 * 공백은 제거하고 영문은 소문자로 바꾼다.
+	 */
+	public static String toJamo(String text) {
+		StringBuilder jamo = new StringBuilder(text.length() * 3);
+
+		for (char c : text.toCharArray()) {
+			if (Character.isWhitespace(c)) {
+				continue;
+			}
+
+			if (isSyllable(c)) {
+				int index = c - SYLLABLE_BEGIN;
+				jamo.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)))
+					.append(JUNG_SPLIT[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+					.append(JONG_SPLIT[index % JONG_COUNT]);
+			} else if (JUNG.indexOf(c) >= 0) {
+				jamo.append(JUNG_SPLIT[JUNG.indexOf(c)]);
+			} else if (JONG.indexOf(c) > 0) {
+				jamo.append(JONG_SPLIT[JONG.indexOf(c)]);
+			} else {
+				jamo.append(Character.toLowerCase(c));
+			}
+		}
+
+		return jamo.toString();
+	}
+
+	/**
+	 * 초성 추출 ("캠핑 장" -> "ㅋㅍㅈ")
+	 * 한글 음절이 아닌 문자는 그대로 둔다.
+	 */
+	public static String toChosung(String text) {
+		StringBuilder chosung = new StringBuilder(text.length());
+
+		for (char c : text.toCharArray()) {
+			if (Character.isWhitespace(c)) {
+				continue;
+			}
+
+			if (isSyllable(c)) {
+				chosung.append(CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)));
+			} else {
+				chosung.append(Character.toLowerCase(c));
+			}
+		}
+
+		return chosung.toString();
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+}
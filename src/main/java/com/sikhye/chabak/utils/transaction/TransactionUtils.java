@@ -0,0 +1,30 @@
+package com.sikhye.chabak.utils.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤에 실행 (트랜잭션이 없으면 즉시 실행)
+	 * 롤백된 변경이 메모리 인덱스/캐시에 반영되지 않도록 하기 위함
+	 *
+	 * @param action 커밋 후 실행할 작업
+	 */
+	public static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
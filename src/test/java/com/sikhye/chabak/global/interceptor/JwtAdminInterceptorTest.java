@@ -0,0 +1,70 @@
+package com.sikhye.chabak.global.interceptor;
+
+import static com.sikhye.chabak.global.response.BaseResponseStatus.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sikhye.chabak.global.exception.BaseException;
+import com.sikhye.chabak.service.jwt.JwtTokenService;
+import com.sikhye.chabak.service.member.constant.BaseRole;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class JwtAdminInterceptorTest {
+
+	private final JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+	private final JwtAdminInterceptor interceptor = new JwtAdminInterceptor(jwtTokenService);
+
+	@Test
+	@DisplayName("001. 일반 회원의 /admin/** 조회(GET)는 거절")
+	public void rejectMemberGetOnAdminPathTest() {
+		//given
+		when(jwtTokenService.getMemberRole()).thenReturn(BaseRole.ROLE_USER);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/sms/verification-codes/stats");
+
+		//when
+		BaseException exception = Assertions.assertThrows(BaseException.class,
+			() -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+
+		//then
+		Assertions.assertEquals(INVALID_USER_JWT, exception.getStatus());
+	}
+
+	@Test
+	@DisplayName("002. 관리자의 /admin/** 조회(GET)는 허용")
+	public void allowAdminGetOnAdminPathTest() throws Exception {
+		//given
+		when(jwtTokenService.getMemberRole()).thenReturn(BaseRole.ROLE_ADMIN);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/sms/verification-codes/stats");
+
+		//when, then
+		Assertions.assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+	}
+
+	@Test
+	@DisplayName("003. 그 외 경로의 조회(GET)는 권한 확인 없이 허용")
+	public void allowMemberGetOnPlacePathTest() throws Exception {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/places/1");
+
+		//when, then
+		Assertions.assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+		verify(jwtTokenService, never()).getMemberRole();
+	}
+
+	@Test
+	@DisplayName("004. 일반 회원의 변경 요청은 거절")
+	public void rejectMemberPostTest() {
+		//given
+		when(jwtTokenService.getMemberRole()).thenReturn(BaseRole.ROLE_USER);
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/places");
+
+		//when, then
+		Assertions.assertThrows(BaseException.class,
+			() -> interceptor.preHandle(request, new MockHttpServletResponse(), null));
+	}
+}
@@ -0,0 +1,55 @@
+package com.sikhye.chabak.service.member.filter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class MemberUniqueFilterTest {
+
+	@ParameterizedTest(name = "{0} = {1}")
+	@DisplayName("001. DB(*_ci)에서 같은 값은 같은 키")
+	@CsvSource({
+		"Chabak@Mail.com, chabak@mail.com",
+		"José, jose",
+		"ÉCOLE, ecole",
+		"straße, strasse",
+		"straße, strase",
+		"STRASSE, straße",
+		"ｃｈａｂａｋ, chabak",
+		"ﬁle, file",
+		"Æther, aether",
+		"œuvre, oeuvre",
+		"Ørsted, orsted",
+		"'  camper ', camper",
+		"캠핑, 캠핑",
+		"Ｃａｍｐ１, camp1"
+	})
+	public void sameKeyTest(String value, String other) {
+		Assertions.assertEquals(MemberUniqueFilter.normalize(other), MemberUniqueFilter.normalize(value));
+	}
+
+	@ParameterizedTest(name = "{0} != {1}")
+	@DisplayName("002. 다른 값은 다른 키")
+	@CsvSource({
+		"camper, camping",
+		"chabak1, chabak2",
+		"캠핑, 캠프",
+		"a.b@mail.com, ab@mail.com"
+	})
+	public void differentKeyTest(String value, String other) {
+		Assertions.assertNotEquals(MemberUniqueFilter.normalize(other), MemberUniqueFilter.normalize(value));
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@DisplayName("003. 서식 문자(zero-width)는 무시")
+	@CsvSource({
+		"cha\u200Bbak",
+		"\uFEFFchabak",
+		"cha\u200Dbak"
+	})
+	public void formatCharacterTest(String value) {
+		Assertions.assertEquals("chabak", MemberUniqueFilter.normalize(value));
+	}
+}
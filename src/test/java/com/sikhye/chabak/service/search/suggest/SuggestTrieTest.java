@@ -0,0 +1,93 @@
+package com.sikhye.chabak.service.search.suggest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import com.sikhye.chabak.utils.search.HangulUtils;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class SuggestTrieTest {
+
+	private static final String LONG_PREFIX = "x".repeat(40);
+
+	private final SuggestTrie trie = SuggestTrie.build(List.of(
+		new SuggestEntry("1", "캠핑장", 3, List.of("캠핑장")),
+		new SuggestEntry("2", "캠프", 2, List.of("캠프")),
+		new SuggestEntry("3", "바다", 1, List.of("바다", "해변")),
+		new SuggestEntry("4", LONG_PREFIX + "abc", 1, List.of(LONG_PREFIX + "abc")),
+		new SuggestEntry("5", LONG_PREFIX + "zzz", 2, List.of(LONG_PREFIX + "zzz"))), 10);
+
+	@ParameterizedTest(name = "{0} -> [{1}]")
+	@DisplayName("001. 자모/초성/별칭 접두어 조회 (가중치 역순)")
+	@CsvSource({
+		"캠, '1,2'",
+		"캠ㅍ, '1,2'",
+		"캠피, 1",
+		"ㅋㅍ, '1,2'",
+		"ㅋㅍㅈ, 1",
+		"바, 3",
+		"해, 3",
+		"ㅂㄷ, 3",
+		"산, ''"
+	})
+	public void lookupTest(String prefix, String expectedIds) {
+		Assertions.assertEquals(ids(expectedIds), lookupIds(trie, prefix, 10));
+	}
+
+	@ParameterizedTest(name = "{0} -> [{1}]")
+	@DisplayName("002. 키 최대 길이(40)를 넘는 접두어도 나머지 부분까지 비교")
+	@CsvSource({
+		"'', '5,4'",
+		"a, 4",
+		"abc, 4",
+		"z, 5",
+		"abcd, ''",
+		"q, ''"
+	})
+	public void longPrefixTest(String suffix, String expectedIds) {
+		Assertions.assertEquals(ids(expectedIds), lookupIds(trie, LONG_PREFIX + suffix, 10));
+	}
+
+	@Test
+	@DisplayName("003. 노드마다 가중치 상위 topK 개만 보관")
+	public void topKTest() {
+		//given
+		SuggestTrie topTwo = SuggestTrie.build(List.of(
+			new SuggestEntry("1", "캠핑장", 1, List.of("캠핑장")),
+			new SuggestEntry("2", "캠프", 3, List.of("캠프")),
+			new SuggestEntry("3", "캠퍼", 2, List.of("캠퍼"))), 2);
+
+		//when, then
+		Assertions.assertEquals(List.of("2", "3"), lookupIds(topTwo, "캠", 10));
+		Assertions.assertEquals(List.of("2"), lookupIds(topTwo, "캠", 1));
+		Assertions.assertEquals(List.of("1"), lookupIds(topTwo, "캠피", 10));
+	}
+
+	@Test
+	@DisplayName("004. 빈 접두어와 빈 트리는 결과 없음")
+	public void emptyTest() {
+		Assertions.assertTrue(trie.lookup("", 10).isEmpty());
+		Assertions.assertTrue(SuggestTrie.EMPTY.lookup(HangulUtils.toJamo("캠"), 10).isEmpty());
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private static List<String> lookupIds(SuggestTrie trie, String prefix, int limit) {
+		return trie.lookup(HangulUtils.toJamo(prefix), limit).stream()
+			.map(SuggestEntry::getId)
+			.collect(Collectors.toList());
+	}
+
+	private static List<String> ids(String expectedIds) {
+		return expectedIds == null || expectedIds.isEmpty() ? List.of() : Arrays.asList(expectedIds.split(","));
+	}
+}
@@ -0,0 +1,174 @@
+package com.sikhye.chabak.service.sms.dispatch;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sikhye.chabak.service.sms.dto.MessagesRequestDto;
+import com.sikhye.chabak.service.sms.event.SmsDroppedEvent;
+import com.sikhye.chabak.service.sms.gateway.StubSmsGateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 스프링 컨텍스트 없이 StubSmsGateway 로 동작하는 단위 테스트
+class SmsDispatcherTest {
+
+	private static final long AWAIT_TIMEOUT_MS = 5000;
+
+	private final StubSmsGateway smsGateway = new StubSmsGateway();
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<Object> events = new CopyOnWriteArrayList<>();
+	private final SmsDispatcher smsDispatcher = new SmsDispatcher(smsGateway, events::add, meterRegistry,
+		1000, 2, 100, 3, 10, 1000);
+
+	@AfterEach
+	public void tearDown() {
+		smsDispatcher.shutdown();
+	}
+
+	@Test
+	@DisplayName("001. 접수한 메시지를 최대 100건씩 묶어 모두 발송")
+	public void batchSendTest() throws Exception {
+		//given
+		int count = 250;
+
+		//when
+		for (int i = 0; i < count; i++) {
+			Assertions.assertTrue(smsDispatcher.enqueue("0100000" + String.format("%04d", i), "content-" + i));
+		}
+		// sent 카운터는 게이트웨이 호출이 끝난 뒤 올라가므로 카운터 기준으로 기다린다.
+		await(() -> meterRegistry.get("sms.messages").tag("result", "sent").counter().count() == count);
+
+		//then
+		Set<String> recipients = smsGateway.getSentMessages().stream()
+			.map(MessagesRequestDto::getTo)
+			.collect(Collectors.toSet());
+		Assertions.assertEquals(count, recipients.size());
+		smsGateway.getSentBatches().forEach(batch -> Assertions.assertTrue(batch.size() <= 100));
+		Assertions.assertEquals(count, meterRegistry.get("sms.messages").tag("result", "sent").counter().count());
+	}
+
+	@Test
+	@DisplayName("002. 일시적인 실패는 백오프 후 재시도")
+	public void retryTest() throws Exception {
+		//given
+		smsGateway.failNext(2, true);
+
+		//when
+		smsDispatcher.enqueue("01012345678", "retry");
+		await(() -> smsGateway.getSentMessages().size() == 1);
+
+		//then
+		Assertions.assertEquals("01012345678", smsGateway.getSentMessages().get(0).getTo());
+		Assertions.assertEquals(2, meterRegistry.get("sms.messages").tag("result", "retried").counter().count());
+	}
+
+	@Test
+	@DisplayName("003. 재시도할 수 없는 실패는 버리고 SmsDroppedEvent 발행")
+	public void nonRetryableFailureTest() throws Exception {
+		//given
+		smsGateway.failNext(1, false);
+
+		//when
+		smsDispatcher.enqueue("01012345678", "bad request");
+		await(() -> meterRegistry.get("sms.messages").tag("result", "failed").counter().count() == 1);
+
+		//then
+		Assertions.assertTrue(smsGateway.getSentMessages().isEmpty());
+		Assertions.assertEquals(0, meterRegistry.get("sms.messages").tag("result", "retried").counter().count());
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("01012345678", ((SmsDroppedEvent)events.get(0)).getTo());
+	}
+
+	@Test
+	@DisplayName("004. 재시도를 모두 소진하면 SmsDroppedEvent 발행")
+	public void retryExhaustedTest() throws Exception {
+		//given
+		smsGateway.failNext(3, true);
+
+		//when
+		smsDispatcher.enqueue("01012345678", "retry exhausted");
+		await(() -> !events.isEmpty());
+
+		//then
+		Assertions.assertTrue(smsGateway.getSentMessages().isEmpty());
+		Assertions.assertEquals("01012345678", ((SmsDroppedEvent)events.get(0)).getTo());
+	}
+
+	@Test
+	@DisplayName("005. 잘못된 수신자 때문에 거절된 묶음은 한 건씩 다시 보내 해당 건만 실패")
+	public void isolateRejectedRecipientTest() throws Exception {
+		//given
+		String badRecipient = "010BAD";
+		smsGateway.rejectRecipient(badRecipient);
+		SmsDispatcher singleWorker = new SmsDispatcher(smsGateway, events::add, meterRegistry,
+			1000, 1, 100, 3, 10, 1000);
+		// 발송 스레드가 첫 건을 보내다 멈춘 동안 나머지가 큐에 쌓여 한 묶음이 된다.
+		smsGateway.pause();
+		singleWorker.enqueue("01000000000", "first");
+		await(() -> singleWorker.getQueueDepth() == 0);
+
+		//when
+		for (int i = 1; i < 10; i++) {
+			singleWorker.enqueue("0100000000" + i, "content-" + i);
+		}
+		singleWorker.enqueue(badRecipient, "bad");
+		smsGateway.resume();
+		await(() -> !events.isEmpty() && smsGateway.getSentMessages().size() == 10);
+		singleWorker.shutdown();
+
+		//then
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals(badRecipient, ((SmsDroppedEvent)events.get(0)).getTo());
+		Assertions.assertTrue(smsGateway.getSentMessages().stream()
+			.noneMatch(message -> message.getTo().equals(badRecipient)));
+		Assertions.assertEquals(1, meterRegistry.get("sms.messages").tag("result", "failed").counter().count());
+		Assertions.assertEquals(10, meterRegistry.get("sms.messages").tag("result", "isolated").counter().count());
+	}
+
+	@Test
+	@DisplayName("006. 종료 후에는 접수 거절")
+	public void rejectAfterShutdownTest() {
+		//when
+		smsDispatcher.shutdown();
+
+		//then
+		Assertions.assertFalse(smsDispatcher.enqueue("01012345678", "late"));
+		Assertions.assertEquals(1, meterRegistry.get("sms.messages").tag("result", "rejected").counter().count());
+	}
+
+	@Test
+	@DisplayName("007. 종료 시 백오프 대기 중인 재시도는 버리고 SmsDroppedEvent 발행")
+	public void dropPendingRetryOnShutdownTest() throws Exception {
+		//given
+		SmsDispatcher slowRetry = new SmsDispatcher(smsGateway, events::add, meterRegistry,
+			1000, 1, 100, 3, 60_000, 1000);
+		smsGateway.failNext(1, true);
+
+		//when
+		slowRetry.enqueue("01012345678", "pending retry");
+		await(() -> meterRegistry.get("sms.messages").tag("result", "retried").counter().count() == 1);
+		slowRetry.shutdown();
+
+		//then
+		Assertions.assertEquals(1, meterRegistry.get("sms.messages").tag("result", "failed").counter().count());
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals("01012345678", ((SmsDroppedEvent)events.get(0)).getTo());
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MS;
+		while (!condition.getAsBoolean()) {
+			Assertions.assertTrue(System.currentTimeMillis() < deadline, "timeout");
+			Thread.sleep(10);
+		}
+	}
+}
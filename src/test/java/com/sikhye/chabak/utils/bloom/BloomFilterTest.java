@@ -0,0 +1,71 @@
+package com.sikhye.chabak.utils.bloom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class BloomFilterTest {
+
+	private static final int INSERTIONS = 10_000;
+	private static final double FPP = 0.01;
+
+	@Test
+	@DisplayName("001. 넣은 값은 항상 있을 수도 있음(true)")
+	public void noFalseNegativeTest() {
+		//given
+		BloomFilter filter = BloomFilter.create(INSERTIONS, FPP);
+
+		//when
+		for (int i = 0; i < INSERTIONS; i++) {
+			filter.put("member-" + i + "@chabak.com");
+		}
+
+		//then
+		for (int i = 0; i < INSERTIONS; i++) {
+			Assertions.assertTrue(filter.mightContain("member-" + i + "@chabak.com"));
+		}
+	}
+
+	@Test
+	@DisplayName("002. 넣지 않은 값의 오탐률은 목표치 근처")
+	public void falsePositiveRateTest() {
+		//given
+		BloomFilter filter = BloomFilter.create(INSERTIONS, FPP);
+		for (int i = 0; i < INSERTIONS; i++) {
+			filter.put("member-" + i);
+		}
+
+		//when
+		int falsePositives = 0;
+		int probes = 100_000;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("absent-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		//then
+		double observed = (double)falsePositives / probes;
+		Assertions.assertTrue(observed < FPP * 2, "observed fpp " + observed);
+		Assertions.assertTrue(filter.expectedFpp() < FPP * 2);
+	}
+
+	@Test
+	@DisplayName("003. 크기가 다른 필터에도 hash 로 같은 값을 넣을 수 있음 (인스턴스 간 전파)")
+	public void putHashTest() {
+		//given
+		BloomFilter small = BloomFilter.create(1_000, FPP);
+		BloomFilter large = BloomFilter.create(100_000, FPP);
+
+		//when
+		long hash = BloomFilter.hash("nickname");
+		small.putHash(hash);
+		large.putHash(hash);
+
+		//then
+		Assertions.assertTrue(small.mightContain("nickname"));
+		Assertions.assertTrue(large.mightContain("nickname"));
+		Assertions.assertFalse(large.mightContain("other-nickname"));
+	}
+}
@@ -0,0 +1,112 @@
+package com.sikhye.chabak.utils.encrypt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sikhye.chabak.global.config.ConfigProperties;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class EncryptServiceAes256Test {
+
+	private static final String SECRET_KEY = "0123456789abcdef0123456789abcdef";
+	private static final int OPERATIONS_PER_THREAD = 500;
+
+	private final EncryptServiceAes256 encryptService = new EncryptServiceAes256(
+		new ConfigProperties("jwt-secret", SECRET_KEY));
+
+	@Test
+	@DisplayName("001. 기존 구현(매 호출 init)과 같은 암호문")
+	public void compatibleCipherTextTest() throws Exception {
+		//given
+		String text = "chabak-password!@#한글";
+
+		//when
+		String encrypted = encryptService.encrypt(text);
+
+		//then
+		Assertions.assertEquals(legacyEncrypt(text), encrypted);
+		Assertions.assertEquals(text, encryptService.decrypt(encrypted));
+	}
+
+	@Test
+	@DisplayName("002. 잘못된 암호문 이후에도 정상 복호화")
+	public void recoverAfterFailureTest() throws Exception {
+		//given
+		String encrypted = encryptService.encrypt("password");
+		String broken = Base64.getEncoder().encodeToString(new byte[] {1, 2, 3});
+
+		//when
+		Assertions.assertThrows(Exception.class, () -> encryptService.decrypt(broken));
+
+		//then
+		Assertions.assertEquals("password", encryptService.decrypt(encrypted));
+	}
+
+	@Test
+	@DisplayName("003. 여러 스레드에서 동시에 암복호화해도 결과가 섞이지 않음")
+	public void concurrentRoundTripTest() throws Exception {
+		//given
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+		//when, then
+		// 정합성만 확인한다. 처리량은 EncryptServiceAes256Benchmark (./gradlew jmh) 로 측정
+		run(threads);
+	}
+
+	// ====================================================================
+	// INTERNAL USE
+	// ====================================================================
+
+	private void run(int threads) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				int threadNo = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+						String text = "member-" + threadNo + "-" + i;
+						String encrypted = encryptService.encrypt(text);
+						Assertions.assertEquals(text, encryptService.decrypt(encrypted));
+						if (i % 100 == 0) {
+							Assertions.assertEquals(legacyEncrypt(text), encrypted);
+						}
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static String legacyEncrypt(String text) throws Exception {
+		byte[] iv = SECRET_KEY.substring(0, 16).getBytes();
+		Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(iv, "AES"), new IvParameterSpec(iv));
+		return Base64.getEncoder().encodeToString(cipher.doFinal(text.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -0,0 +1,55 @@
+package com.sikhye.chabak.utils.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+// 스프링 컨텍스트 없이 동작하는 단위 테스트
+class HangulUtilsTest {
+
+	@ParameterizedTest(name = "{0} -> {1}")
+	@DisplayName("001. 자모 분해 (겹모음/겹받침은 낱자로)")
+	@CsvSource({
+		"'캠핑 장', ㅋㅐㅁㅍㅣㅇㅈㅏㅇ",
+		"과, ㄱㅗㅏ",
+		"의, ㅇㅡㅣ",
+		"뷁, ㅂㅜㅔㄹㄱ",
+		"값, ㄱㅏㅂㅅ",
+		"읽, ㅇㅣㄹㄱ",
+		"ㅘ, ㅗㅏ",
+		"ㄳ, ㄱㅅ",
+		"ㄸ, ㄸ",
+		"'Camp 1', camp1"
+	})
+	public void toJamoTest(String text, String expected) {
+		Assertions.assertEquals(expected, HangulUtils.toJamo(text));
+	}
+
+	@ParameterizedTest(name = "{0} <- {1}")
+	@DisplayName("002. 입력 중인 음절도 완성된 음절의 접두어")
+	@CsvSource({
+		"캠핑장, 캠ㅍ",
+		"캠핑장, 캠피",
+		"과자, 고",
+		"닭갈비, 달",
+		"읽기, 일",
+		"값, 갑"
+	})
+	public void partialSyllablePrefixTest(String text, String typing) {
+		Assertions.assertTrue(HangulUtils.toJamo(text).startsWith(HangulUtils.toJamo(typing)));
+	}
+
+	@ParameterizedTest(name = "{0} -> {1}")
+	@DisplayName("003. 초성 추출 (한글 음절이 아닌 문자는 그대로)")
+	@CsvSource({
+		"'캠핑 장', ㅋㅍㅈ",
+		"꿈나무, ㄲㄴㅁ",
+		"ㅋㅍ, ㅋㅍ",
+		"'Camp 장', campㅈ",
+		"1박2일, 1ㅂ2ㅇ"
+	})
+	public void toChosungTest(String text, String expected) {
+		Assertions.assertEquals(expected, HangulUtils.toChosung(text));
+	}
+}